@@ -17,51 +17,62 @@
  */
 package org.fcrepo.spec.testsuite;
 
-import static io.restassured.config.RedirectConfig.redirectConfig;
-import static org.fcrepo.spec.testsuite.Constants.APPLICATION_SPARQL_UPDATE;
 import static org.fcrepo.spec.testsuite.Constants.BASIC_CONTAINER_BODY;
 import static org.fcrepo.spec.testsuite.Constants.BASIC_CONTAINER_LINK_HEADER;
+import static org.fcrepo.spec.testsuite.Constants.CONTENT_DISPOSITION;
 import static org.fcrepo.spec.testsuite.Constants.SLUG;
+import static org.fcrepo.spec.testsuite.TestSuiteGlobals.registerContainedTestResource;
 import static org.fcrepo.spec.testsuite.TestSuiteGlobals.registerTestResource;
-import static org.fcrepo.spec.testsuite.authn.AuthUtil.auth;
 import static org.testng.AssertJUnit.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.io.StringReader;
+import java.lang.reflect.Method;
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.ws.rs.core.Link;
 
-import io.restassured.RestAssured;
-import io.restassured.config.EncoderConfig;
-import io.restassured.config.LogConfig;
-import io.restassured.http.ContentType;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.apache.commons.io.IOUtils;
-import org.apache.http.message.BasicHeaderValueParser;
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.QuerySolution;
+import org.apache.jena.query.QuerySolutionMap;
+import org.apache.jena.query.ResultSetFormatter;
 import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.testng.Assert;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 
 /**
@@ -73,12 +84,26 @@ public class AbstractTest {
 
     protected static final String SPEC_BASE_URL = Constants.SPEC_BASE_URL;
 
-    protected PrintStream ps;
+    /**
+     * Execution log of the test method running on the current thread.
+     */
+    protected final ThreadLocalPrintStream ps = TestSuiteGlobals.testLog();
 
     private String rootControllerUserWebId;
     protected String permissionlessUserWebId;
     protected String uri;
     protected String rootUri;
+
+    /**
+     * SPARQL queries compiled by each test class, keyed by their text.
+     */
+    private static final Map<Class<?>, Map<String, Query>> QUERIES = new ConcurrentHashMap<>();
+
+    /**
+     * Fixtures shared by tests which only read them, keyed by their name.
+     */
+    private static final Map<String, SharedFixture<?>> SHARED_FIXTURES = new ConcurrentHashMap<>();
+
     /**
      * Constructor
      */
@@ -89,12 +114,23 @@ public class AbstractTest {
         this.rootUri = TestParameters.get().getRootUrl();
     }
 
+    /**
+     * Give each test class its own container so that classes may run in parallel.
+     */
+    @BeforeClass(alwaysRun = true)
+    public void setupTestClassContainer() {
+        this.uri = TestSuiteGlobals.containerTestClass(getClass());
+    }
+
     /**
      * setup
+     *
+     * @param method the test method about to run
      */
     @BeforeMethod(alwaysRun = true)
-    public void setup() {
-        ps = TestSuiteGlobals.logFile();
+    public void setup(final Method method) {
+        TestScheduler.enter(getClass(), method);
+        ps.bind(TestSuiteGlobals.logFile());
         ps.append("************************************************\n");
         ps.append("**** Test Start ********************************\n");
         ps.append("************************************************\n");
@@ -102,13 +138,21 @@ public class AbstractTest {
 
     /**
      * tearDown
+     *
+     * @param result the result of the test method which ran
      */
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
+    public void tearDown(final ITestResult result) {
+        final ExchangeRecorder recorder = RequestTemplates.get().getExchangeRecorder();
+        if (recorder != null) {
+            recorder.finish(ps.bound(), result.getStatus() != ITestResult.SUCCESS);
+        }
+        TestSuiteGlobals.cleanupTestResources(ps.bound());
         ps.append("\n************************************************");
         ps.append("\n**** Test End **********************************");
-        ps.append("\n************************************************\n\n\n\n").close();
-
+        ps.append("\n************************************************\n\n\n\n");
+        ps.unbind();
+        TestScheduler.exit();
     }
 
     /**
@@ -192,6 +236,86 @@ public class AbstractTest {
         return response;
     }
 
+    /**
+     * Get a new basic container for the test to work on, taken from the fixture pool, or created in the given
+     * container if the pool has none left.
+     *
+     * @param uri the container in which to create the basic container if need be
+     * @param info the test
+     * @return the url of the basic container
+     */
+    protected String basicContainerFixture(final String uri, final TestInfo info) {
+        final String fixture = FixturePool.get().takeBasicContainer();
+        if (fixture == null) {
+            return getLocation(createBasicContainer(uri, info));
+        }
+        ps.append("Using basic container from the fixture pool: ").append(fixture).append('\n');
+        return fixture;
+    }
+
+    /**
+     * Get a new non-RDF source for the test to work on, taken from the fixture pool, or created in the given
+     * container if the pool has none left. Its content is {@link FixturePool#NON_RDF_SOURCE_BODY}.
+     *
+     * @param uri the container in which to create the non-RDF source if need be
+     * @param info the test
+     * @return the url of the non-RDF source
+     */
+    protected String nonRdfSourceFixture(final String uri, final TestInfo info) {
+        final String fixture = FixturePool.get().takeNonRdfSource();
+        if (fixture == null) {
+            final Headers headers = new Headers(
+                new Header(CONTENT_DISPOSITION, FixturePool.NON_RDF_SOURCE_DISPOSITION),
+                new Header(SLUG, info.getId()));
+            return getLocation(doPost(uri, headers, FixturePool.NON_RDF_SOURCE_BODY));
+        }
+        ps.append("Using non-RDF source from the fixture pool: ").append(fixture).append('\n');
+        return fixture;
+    }
+
+    /**
+     * Get a fixture shared by every test which asks for it by the same name. It is created by the first of them, in
+     * the test suite container, and kept for the rest of the run. Tests must only read the resources of a shared
+     * fixture. Should the creation fail, the next test asking for the fixture tries again.
+     *
+     * @param name the name of the fixture
+     * @param create creates the fixture
+     * @param <T> the type of the fixture
+     * @return the fixture
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> T sharedFixture(final String name, final Supplier<T> create) {
+        final SharedFixture<T> fixture =
+            (SharedFixture<T>) SHARED_FIXTURES.computeIfAbsent(name, k -> new SharedFixture<>());
+        final T value = fixture.get(create);
+        ps.append("Using shared fixture '").append(name).append("': ").append(String.valueOf(value)).append('\n');
+        return value;
+    }
+
+    /**
+     * Get a basic container shared by the tests which only read it.
+     *
+     * @return the url of the container
+     */
+    protected String sharedBasicContainer() {
+        return sharedFixture("basic container", () -> getLocation(
+            createBasicContainer(TestParameters.get().getTestContainerUrl(), "shared-basic-container")));
+    }
+
+    /**
+     * Get a non-RDF source holding "TestString", shared by the tests which only read it.
+     *
+     * @return the url of the non-RDF source
+     */
+    protected String sharedNonRdfSource() {
+        return sharedFixture("non-RDF source", () -> {
+            final Headers headers = new Headers(
+                new Header(CONTENT_DISPOSITION, "attachment; filename=\"shared.txt\""),
+                new Header(SLUG, "shared-non-rdf-source"));
+            return getLocation(doPost(TestParameters.get().getTestContainerUrl(), headers, "TestString"));
+        });
+    }
+
     protected Response createDirectContainer(final String uri, final String body) {
         final Response response = createDirectContainerUnverified(uri, body);
 
@@ -250,6 +374,21 @@ public class AbstractTest {
         return doPostUnverified(uri, headers, body, true);
     }
 
+    /**
+     * Do a POST request whose body is streamed rather than held in memory.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @param admin use the admin user credentials.
+     * @return the response.
+     */
+    protected Response doPostStreamedUnverified(final String uri, final Headers headers, final StreamedBody body,
+                                                final boolean admin) {
+        final RequestSpecification req = createStreamedBodyRequest(admin, headers, body);
+        return registerTestResource(HttpConnectionPool.withBody(body, () -> req.when().post(uri)));
+    }
+
     protected Response doPostUnverified(final String uri, final Headers headers) {
         return doPostUnverified(uri, headers, null, true);
     }
@@ -281,6 +420,28 @@ public class AbstractTest {
         return doPost(uri, headers, null, true);
     }
 
+    /**
+     * Do a POST whose body is streamed rather than held in memory, and confirm a 201 status code.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @return the response.
+     */
+    protected Response doPostStreamed(final String uri, final Headers headers, final StreamedBody body) {
+        final Response response = doPostStreamedUnverified(uri, headers, body, true);
+        response.then().statusCode(201);
+        return response;
+    }
+
+    protected Response doPostStreamed(final String uri, final Headers headers, final InputStream body) {
+        return doPostStreamed(uri, headers, StreamedBody.of(body));
+    }
+
+    protected Response doPostStreamed(final String uri, final Headers headers, final File body) {
+        return doPostStreamed(uri, headers, StreamedBody.of(body));
+    }
+
     protected Response doPost(final String uri, final String body) {
         return doPost(uri, null, body, true);
     }
@@ -309,6 +470,21 @@ public class AbstractTest {
         return doPutUnverified(uri, headers, null, true);
     }
 
+    /**
+     * Do a PUT request whose body is streamed rather than held in memory.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @param admin use the admin user credentials.
+     * @return the response.
+     */
+    protected Response doPutStreamedUnverified(final String uri, final Headers headers, final StreamedBody body,
+                                               final boolean admin) {
+        final RequestSpecification req = createStreamedBodyRequest(admin, headers, body);
+        return registerTestResource(HttpConnectionPool.withBody(body, () -> req.when().put(uri)));
+    }
+
     protected Response doPutUnverified(final String uri) {
         return doPutUnverified(uri, null, null, true);
     }
@@ -325,6 +501,30 @@ public class AbstractTest {
         return response;
     }
 
+    /**
+     * Do a PUT whose body is streamed rather than held in memory, and confirm a 204 status code.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @return the response.
+     */
+    protected Response doPutStreamed(final String uri, final Headers headers, final StreamedBody body) {
+        final Response response = doPutStreamedUnverified(uri, headers, body, true);
+
+        response.then().statusCode(204);
+
+        return response;
+    }
+
+    protected Response doPutStreamed(final String uri, final Headers headers, final InputStream body) {
+        return doPutStreamed(uri, headers, StreamedBody.of(body));
+    }
+
+    protected Response doPutStreamed(final String uri, final Headers headers, final File body) {
+        return doPutStreamed(uri, headers, StreamedBody.of(body));
+    }
+
     private Response doOptionsUnverified(final String uri, final boolean admin) {
         return createRequest(admin).when().options(uri);
     }
@@ -353,29 +553,13 @@ public class AbstractTest {
     }
 
     private RequestSpecification createRequest(final boolean admin) {
-        return createRequestAuthOnly(admin)
-            .config(RestAssured.config().redirect(redirectConfig().followRedirects(false))
-                               .logConfig(new LogConfig().defaultStream(ps)
-                                                         .enableLoggingOfRequestAndResponseIfValidationFails()))
-            .log().all();
+        return RequestTemplates.get().request(admin ? this.rootControllerUserWebId : this.permissionlessUserWebId);
     }
 
     private RequestSpecification createRequest(final String slug, final String contentType) {
         return createRequest().header(SLUG, slug).contentType(contentType);
     }
 
-    private RequestSpecification createRequestAuthOnly(final boolean admin) {
-        if (admin) {
-            return createRequestAuthOnly(this.rootControllerUserWebId);
-        } else {
-            return createRequestAuthOnly(this.permissionlessUserWebId);
-        }
-    }
-
-    private RequestSpecification createRequestAuthOnly(final String webId) {
-        return auth(RestAssured.given(), webId).urlEncodingEnabled(false);
-    }
-
     protected Response doGet(final String uri, final Header header) {
         final Response response = doGetUnverified(uri, header);
 
@@ -396,6 +580,178 @@ public class AbstractTest {
         return doGet(uri, true);
     }
 
+    /**
+     * Get a resource which is only read to inspect its triples, in the RDF syntax configured for the repository.
+     * Use {@link #getRdfReadLang()} to parse the response.
+     *
+     * @param uri the resource
+     * @param headers any other headers of the request
+     * @return the response
+     */
+    protected Response doGetRdf(final String uri, final Header... headers) {
+        final Response response = createRequest().header("Accept", TestParameters.get().getRdfReadFormat())
+                                                 .headers(new Headers(headers))
+                                                 .when()
+                                                 .get(uri);
+
+        response.then().statusCode(200);
+
+        return response;
+    }
+
+    /**
+     * Perform a GET request for RDF without buffering the response body, so that a large body may be parsed as it
+     * arrives. Only the request line and status are logged. The caller must close {@link Response#asInputStream()}.
+     *
+     * @param uri the resource
+     * @param headers any other headers of the request
+     * @return the response, whose body has not been read
+     */
+    protected Response doGetStreamed(final String uri, final Header... headers) {
+        ps.append("GET ").append(uri).append(" (body not logged)\n");
+        final Response response = HttpConnectionPool.streaming(
+            () -> RequestTemplates.get().unloggedRequest(rootControllerUserWebId)
+                                  .header("Accept", TestParameters.get().getRdfReadFormat())
+                                  .headers(new Headers(headers))
+                                  .when()
+                                  .get(uri));
+        ps.append(response.getStatusLine()).append("\n");
+        if (response.getStatusCode() != 200) {
+            try (InputStream body = response.asInputStream()) {
+                // Closing the unread body hands the connection back to the pool
+            } catch (final IOException ex) {
+                // The request has failed anyway
+            }
+            fail("Expected status code 200 but was " + response.getStatusCode() + " for " + uri);
+        }
+        return response;
+    }
+
+    /**
+     * Create a basic container without logging the exchange, for filling a parent container which is itself cleaned
+     * up. The container is only deleted on its own if the server cannot delete its parent along with it.
+     *
+     * @param uri the parent container
+     * @return the location of the new container
+     */
+    protected String createBasicContainerUnlogged(final String uri) {
+        final Response response = RequestTemplates.get().unloggedRequest(rootControllerUserWebId)
+                                                  .header("Link", BASIC_CONTAINER_LINK_HEADER)
+                                                  .when()
+                                                  .post(uri);
+        if (response.getStatusCode() != 201) {
+            fail("Expected status code 201 but was " + response.getStatusCode() + " creating a child of " + uri);
+        }
+        return getLocation(registerContainedTestResource(response));
+    }
+
+    /**
+     * Perform a PUT request whose body is streamed, without logging the exchange, for bodies too large to log or to
+     * hold in memory.
+     *
+     * @param uri the resource
+     * @param headers the headers of the request
+     * @param body the body
+     * @return the response
+     */
+    protected Response doPutUnlogged(final String uri, final Headers headers, final StreamedBody body) {
+        ps.append("PUT ").append(uri).append(" (body not logged)\n");
+        final Response response = HttpConnectionPool.withBody(
+            body, () -> RequestTemplates.get().unloggedRequest(rootControllerUserWebId)
+                                        .headers(headers)
+                                        .when()
+                                        .put(uri));
+        ps.append(response.getStatusLine()).append("\n");
+        return registerTestResource(response);
+    }
+
+    /**
+     * The RDF syntax of responses to {@link #doGetRdf(String, Header...)}.
+     *
+     * @return the syntax
+     */
+    protected Lang getRdfReadLang() {
+        return RDFLanguages.contentTypeToLang(TestParameters.get().getRdfReadFormat());
+    }
+
+    /**
+     * Get a SPARQL query, compiling it the first time this test class uses it.
+     *
+     * @param sparql the text of the query
+     * @return the compiled query, which must not be modified
+     */
+    protected Query compileQuery(final String sparql) {
+        return QUERIES.computeIfAbsent(getClass(), c -> new ConcurrentHashMap<>()).computeIfAbsent(sparql, q -> {
+            final Query query = QueryFactory.create(q);
+            // Settle the projection now, as executions would otherwise do it on the shared query
+            query.setResultVars();
+            return query;
+        });
+    }
+
+    /**
+     * Bind query variables to URIs.
+     *
+     * @param namesAndUris alternating variable names and URIs
+     * @return the bindings
+     */
+    protected QuerySolutionMap bindUris(final String... namesAndUris) {
+        final QuerySolutionMap bindings = new QuerySolutionMap();
+        for (int i = 0; i + 1 < namesAndUris.length; i += 2) {
+            bindings.add(namesAndUris[i], ResourceFactory.createResource(namesAndUris[i + 1]));
+        }
+        return bindings;
+    }
+
+    /**
+     * Evaluate a SPARQL ASK query against the body of a response to {@link #doGetRdf(String, Header...)}.
+     *
+     * @param sparql the ASK query
+     * @param response the response
+     * @param bindings initial values of query variables
+     * @return the answer
+     */
+    protected boolean ask(final String sparql, final Response response, final QuerySolution bindings) {
+        try (QueryExecution exec = execute(sparql, response, bindings)) {
+            return exec.execAsk();
+        }
+    }
+
+    /**
+     * Evaluate a SPARQL SELECT query against the body of a response to {@link #doGetRdf(String, Header...)}.
+     *
+     * @param sparql the SELECT query
+     * @param response the response
+     * @param bindings initial values of query variables
+     * @return the solutions
+     */
+    protected List<QuerySolution> select(final String sparql, final Response response,
+                                         final QuerySolution bindings) {
+        try (QueryExecution exec = execute(sparql, response, bindings)) {
+            return ResultSetFormatter.toList(exec.execSelect());
+        }
+    }
+
+    /**
+     * Assert that a SPARQL ASK query holds for the body of a response to {@link #doGetRdf(String, Header...)}.
+     *
+     * @param message the failure message
+     * @param sparql the ASK query
+     * @param response the response
+     * @param bindings initial values of query variables
+     */
+    protected void assertAsk(final String message, final String sparql, final Response response,
+                             final QuerySolution bindings) {
+        if (!ask(sparql, response, bindings)) {
+            fail(message);
+        }
+    }
+
+    private QueryExecution execute(final String sparql, final Response response, final QuerySolution bindings) {
+        final Model model = RdfModelCache.get(response.getBody().asString(), getRdfReadLang().getName());
+        return QueryExecutionFactory.create(compileQuery(sparql), model, bindings);
+    }
+
     protected Response doGetUnverified(final String uri, final Header header) {
         return createRequest().header(header).when().get(uri);
     }
@@ -458,9 +814,7 @@ public class AbstractTest {
 
     protected Response doPatchUnverified(final String uri, final Headers headers, final String body,
                                          final boolean admin) {
-        final RequestSpecification req = createRequest(admin).config(RestAssured.config().encoderConfig(
-                new EncoderConfig().encodeContentTypeAs(APPLICATION_SPARQL_UPDATE, ContentType.TEXT)
-        .appendDefaultContentCharsetToContentTypeIfUndefined(false)));
+        final RequestSpecification req = createRequest(admin).config(RequestTemplates.get().getSparqlUpdateConfig());
         if (headers != null) {
             req.headers(headers);
         }
@@ -474,6 +828,118 @@ public class AbstractTest {
         return doPatchUnverified(uri, null, null, true);
     }
 
+    /**
+     * Do a PATCH request whose body, such as a large SPARQL Update, is streamed rather than held in memory.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @param admin use the admin user credentials.
+     * @return the response.
+     */
+    protected Response doPatchStreamedUnverified(final String uri, final Headers headers, final StreamedBody body,
+                                                 final boolean admin) {
+        final RequestSpecification req = createStreamedBodyRequest(admin, headers, body);
+        return HttpConnectionPool.withBody(body, () -> req.when().patch(uri));
+    }
+
+    /**
+     * Do a PATCH whose body is streamed rather than held in memory, and confirm a 2xx status code.
+     *
+     * @param uri the URI of the request
+     * @param headers the request headers.
+     * @param body the request body.
+     * @return the response.
+     */
+    protected Response doPatchStreamed(final String uri, final Headers headers, final StreamedBody body) {
+        final Response response = doPatchStreamedUnverified(uri, headers, body, true);
+
+        response.then().statusCode(successRange());
+
+        return response;
+    }
+
+    protected Response doPatchStreamed(final String uri, final Headers headers, final InputStream body) {
+        return doPatchStreamed(uri, headers, StreamedBody.of(body));
+    }
+
+    protected Response doPatchStreamed(final String uri, final Headers headers, final File body) {
+        return doPatchStreamed(uri, headers, StreamedBody.of(body));
+    }
+
+    private RequestSpecification createStreamedBodyRequest(final boolean admin, final Headers headers,
+                                                           final StreamedBody body) {
+        // RestAssured logs the request without a body, so note what was sent in its place
+        ps.append("Streamed request ").append(body.toString()).append("\n");
+        final RequestSpecification req = createRequest(admin).config(RequestTemplates.get().getStreamedBodyConfig());
+        if (headers != null) {
+            req.headers(headers);
+        }
+        return req;
+    }
+
+    /**
+     * Run a request in the background, logging to the log of the current test. Use this to issue independent
+     * requests, such as creating several fixtures, concurrently. The log of the request is appended to that of the
+     * test as one block once the request finishes.
+     *
+     * @param request the request to run
+     * @param <T> the type of the result
+     * @return a future holding the result of the request
+     */
+    protected <T> CompletableFuture<T> async(final Supplier<T> request) {
+        final PrintStream log = ps.bound();
+        return CompletableFuture.supplyAsync(() -> ps.buffered(log, request), RequestExecutor.get());
+    }
+
+    /**
+     * Wait for a request started with {@link #async(Supplier)}, rethrowing any assertion failure it raised.
+     *
+     * @param future the future of the request
+     * @param <T> the type of the result
+     * @return the result of the request
+     */
+    protected <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            } else if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    protected CompletableFuture<Response> doPostAsync(final String uri, final Headers headers, final String body) {
+        return async(() -> doPost(uri, headers, body));
+    }
+
+    protected CompletableFuture<Response> doPostAsync(final String uri) {
+        return async(() -> doPost(uri));
+    }
+
+    protected CompletableFuture<Response> doPutAsync(final String uri, final Headers headers, final String body) {
+        return async(() -> doPut(uri, headers, body));
+    }
+
+    protected CompletableFuture<Response> doGetAsync(final String uri, final Header header) {
+        return async(() -> doGet(uri, header));
+    }
+
+    protected CompletableFuture<Response> doGetAsync(final String uri) {
+        return async(() -> doGet(uri));
+    }
+
+    protected CompletableFuture<Response> doPatchAsync(final String uri, final Headers headers, final String body) {
+        return async(() -> doPatch(uri, headers, body));
+    }
+
+    protected CompletableFuture<Response> doDeleteAsync(final String uri) {
+        return async(() -> doDelete(uri));
+    }
+
     protected String getLocation(final Response response) {
         return response.getHeader("Location");
     }
@@ -498,8 +964,7 @@ public class AbstractTest {
 
         @Override
         public boolean matches(final Object item) {
-            final Model model = ModelFactory.createDefaultModel();
-            model.read(new StringReader(item.toString()), "", "TURTLE");
+            final Model model = RdfModelCache.get(item.toString(), getRdfReadLang().getName());
 
             return model.contains(triple) == expectMatch;
         }
@@ -529,8 +994,7 @@ public class AbstractTest {
 
         @Override
         public boolean matches(final Object item) {
-            final Model model = ModelFactory.createDefaultModel();
-            model.read(new StringReader(item.toString()), "", "TURTLE");
+            final Model model = RdfModelCache.get(item.toString(), getRdfReadLang().getName());
 
             return model.contains(mysubject, mypredicate) == expectMatch;
         }
@@ -565,12 +1029,7 @@ public class AbstractTest {
     }
 
     protected Stream<Link> getLinksOfRelType(final Response response, final String relType) {
-        return getHeaders(response, "Link")
-            // Link header may include multiple, comma-separated link values
-            .flatMap(header -> Arrays.stream(BasicHeaderValueParser.parseElements(header.getValue(), null))
-                    .map(linkElement -> Link.valueOf(linkElement.toString())))
-            // Each link value may contain multiple "rel" values
-            .filter(link -> link.getRels().stream().anyMatch(rel -> rel.equalsIgnoreCase(relType)));
+        return HeaderIndex.of(response).getLinks(relType).stream();
     }
 
     protected Stream<URI> getLinksOfRelTypeAsUris(final Response response, final String relType) {
@@ -608,19 +1067,16 @@ public class AbstractTest {
      * @return whether the response was a LDP Container.
      */
     protected boolean confirmLDPContainer(final Response response) {
-        return getLinksOfRelTypeAsUris(response, "type").anyMatch(isLDPContainer);
+        return getLinksOfRelTypeAsUris(response, "type").anyMatch(LDP_CONTAINER_TYPES::contains);
     }
 
     /**
-     * Predicate for testing for one of the three container types.
+     * The three container types.
      */
-    private static Predicate<URI> isLDPContainer = (p -> {
-        final List<URI> containers = new ArrayList<>();
-        containers.add(URI.create("http://www.w3.org/ns/ldp#BasicContainer"));
-        containers.add(URI.create("http://www.w3.org/ns/ldp#IndirectContainer"));
-        containers.add(URI.create("http://www.w3.org/ns/ldp#DirectContainer"));
-        return containers.contains(p);
-    });
+    private static final Set<URI> LDP_CONTAINER_TYPES = new HashSet<>(Arrays.asList(
+        URI.create("http://www.w3.org/ns/ldp#BasicContainer"),
+        URI.create("http://www.w3.org/ns/ldp#IndirectContainer"),
+        URI.create("http://www.w3.org/ns/ldp#DirectContainer")));
 
     /**
      * Get the LDP-RS that describes a LDP-NR if it exists.
@@ -650,4 +1106,19 @@ public class AbstractTest {
             throw new RuntimeException(ex);
         }
     }
+
+    /**
+     * A fixture which is created once, by the first test needing it.
+     */
+    private static class SharedFixture<T> {
+
+        private T value;
+
+        private synchronized T get(final Supplier<T> create) {
+            if (value == null) {
+                value = TestSuiteGlobals.createSharedTestResources(create);
+            }
+            return value;
+        }
+    }
 }
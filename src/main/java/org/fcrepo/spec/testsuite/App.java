@@ -18,23 +18,31 @@
 package org.fcrepo.spec.testsuite;
 
 import static org.fcrepo.spec.testsuite.TestParameters.AUTHENTICATOR_CLASS_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.BACKGROUND_VIRTUAL_THREADS_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.BROKER_URL_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.CLEANUP_THREADS_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.CONFIG_FILE_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.OUTPUT_DIRECTORY_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.CONSTRAINT_ERROR_GENERATOR_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.FAILURE_LOG_SIZE_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.FIXTURE_POOL_SIZE_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.IMPLEMENTATION_NAME_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.IMPLEMENTATION_VERSION_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.INCREMENTAL_CLEANUP_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.IMPLEMENTATION_NOTES_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.MAX_CONNECTIONS_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.PERMISSIONLESS_USER_AUTH_HEADER;
 import static org.fcrepo.spec.testsuite.TestParameters.PERMISSIONLESS_USER_NAME_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.PERMISSIONLESS_USER_PASSWORD_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.PERMISSIONLESS_USER_WEBID_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.QUEUE_NAME_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.RDF_READ_FORMAT_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.ROOT_CONTROLLER_USER_AUTH_HEADER;
 import static org.fcrepo.spec.testsuite.TestParameters.ROOT_CONTROLLER_USER_NAME_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.ROOT_CONTROLLER_USER_PASSWORD_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.ROOT_CONTROLLER_USER_WEBID_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.ROOT_URL_PARAM;
+import static org.fcrepo.spec.testsuite.TestParameters.THREADS_PARAM;
 import static org.fcrepo.spec.testsuite.TestParameters.TOPIC_NAME_PARAM;
 import static org.testng.util.Strings.isNullOrEmpty;
 
@@ -44,6 +52,7 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.net.URI;
 import java.nio.file.Paths;
@@ -61,7 +70,10 @@ import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
 import org.fcrepo.spec.testsuite.authn.AuthenticatorResolver;
+import org.fcrepo.spec.testsuite.authz.AclTemplates;
 import org.testng.TestNG;
 import org.testng.xml.SuiteXmlParser;
 import org.testng.xml.XmlSuite;
@@ -74,6 +86,7 @@ public class App {
     private final static String TESTNGXML_PARAM = "testngxml";
     private final static String REQUIREMENTS_PARAM = "requirements";
     private final static String SITE_NAME_PARAM = "site-name";
+    private final static String CLEANUP_JOURNAL_PARAM = "cleanup-journal";
 
 
     private App() {
@@ -123,6 +136,14 @@ public class App {
         configArgs.put(IMPLEMENTATION_NAME_PARAM, false);
         configArgs.put(IMPLEMENTATION_VERSION_PARAM, false);
         configArgs.put(OUTPUT_DIRECTORY_PARAM, false);
+        configArgs.put(THREADS_PARAM, false);
+        configArgs.put(MAX_CONNECTIONS_PARAM, false);
+        configArgs.put(BACKGROUND_VIRTUAL_THREADS_PARAM, false);
+        configArgs.put(CLEANUP_THREADS_PARAM, false);
+        configArgs.put(INCREMENTAL_CLEANUP_PARAM, false);
+        configArgs.put(FIXTURE_POOL_SIZE_PARAM, false);
+        configArgs.put(FAILURE_LOG_SIZE_PARAM, false);
+        configArgs.put(RDF_READ_FORMAT_PARAM, false);
     }
 
     /**
@@ -166,7 +187,7 @@ public class App {
         options.addOption(new Option("x", TESTNGXML_PARAM, true, "TestNG XML file"));
         options.addOption(new Option("r", REQUIREMENTS_PARAM, true,
                                      "Requirement levels. One or more of the following, " +
-                                     "separated by ',': [ALL|MUST|SHOULD|MAY]"));
+                                     "separated by ',': [ALL|MUST|SHOULD|MAY|SCALE]"));
         options.addOption(new Option("c", CONFIG_FILE_PARAM, true, "Configuration file of test parameters."));
         options.addOption(new Option("o", OUTPUT_DIRECTORY_PARAM, true,
                 "Output directory for reports and TestNG output."));
@@ -190,6 +211,41 @@ public class App {
         options.addOption(
             new Option("v", IMPLEMENTATION_VERSION_PARAM, true,
                        "The version of the Fedora implementation being tested."));
+        options.addOption(
+            new Option("T", THREADS_PARAM, true,
+                       "Number of threads used to run test methods in parallel (defaults to 1)."));
+        options.addOption(
+            new Option("m", MAX_CONNECTIONS_PARAM, true,
+                       "Maximum number of keep-alive HTTP connections to the repository (defaults to 20, or the " +
+                       "number of threads if greater)."));
+        options.addOption(
+            new Option("V", BACKGROUND_VIRTUAL_THREADS_PARAM, false,
+                       "Run requests issued in the background by tests on virtual threads (requires Java 21 or " +
+                       "later). Test methods still run on the threads set by --" + THREADS_PARAM + "."));
+        options.addOption(
+            new Option("C", CLEANUP_THREADS_PARAM, true,
+                       "Number of resources deleted concurrently when the test container cannot be deleted " +
+                       "recursively (defaults to the maximum number of connections)."));
+        options.addOption(
+            new Option("I", INCREMENTAL_CLEANUP_PARAM, false,
+                       "Delete the resources created by each test in the background once it finishes, rather than " +
+                       "all at the end, so that the repository does not grow over a long run."));
+        options.addOption(
+            new Option("J", CLEANUP_JOURNAL_PARAM, true,
+                       "Only delete the resources left in the repository by earlier runs, as recorded in this " +
+                       "cleanup journal, or in every journal of this directory, rather than running the tests."));
+        options.addOption(
+            new Option("f", FIXTURE_POOL_SIZE_PARAM, true,
+                       "Number of basic containers, and of non-RDF sources, created concurrently before the tests " +
+                       "start, for tests which only need a new resource to work on (defaults to 0)."));
+        options.addOption(
+            new Option("L", FAILURE_LOG_SIZE_PARAM, true,
+                       "Only log requests of tests which fail or are skipped, keeping this many recent requests of " +
+                       "each test (defaults to 0, logging every request)."));
+        options.addOption(
+            new Option("F", RDF_READ_FORMAT_PARAM, true,
+                       "Media type requested when RDF is only read to inspect its triples, such as " +
+                       "application/n-triples (defaults to text/turtle)."));
 
         final CommandLineParser parser = new BasicParser();
         final CommandLine cmd;
@@ -217,13 +273,21 @@ public class App {
             }
         }
 
+        // Only the repository and the credentials of the root controller user are needed to clean up
+        final boolean cleanupOnly = cmd.hasOption(CLEANUP_JOURNAL_PARAM);
+        if (cmd.hasOption(BACKGROUND_VIRTUAL_THREADS_PARAM)) {
+            params.put(BACKGROUND_VIRTUAL_THREADS_PARAM, "true");
+        }
+        if (cmd.hasOption(INCREMENTAL_CLEANUP_PARAM)) {
+            params.put(INCREMENTAL_CLEANUP_PARAM, "true");
+        }
         for (final String opt : configArgs.keySet()) {
             // Allow command line overriding of config file arguments
             if (cmd.getOptionValue(opt) != null) {
                 params.put(opt, cmd.getOptionValue(opt));
             }
             if (!params.containsKey(opt) || params.get(opt).isEmpty()) {
-                if (configArgs.get(opt)) {
+                if (configArgs.get(opt) && !(cleanupOnly && opt.equals(BROKER_URL_PARAM))) {
                     throw new RuntimeException("Argument \"" + opt + "\" is required");
                 }
                 // Fill in missing parts with blanks
@@ -249,7 +313,41 @@ public class App {
 
         TestParameters.initialize(params);
         final TestParameters tp = TestParameters.get();
-        if (isNullOrEmpty(tp.getQueueName()) &&
+        try {
+            if (tp.getThreads() < 1) {
+                printHelpAndExit(THREADS_PARAM + " must be a positive number", options);
+            }
+            if (tp.getMaxConnections() < 1) {
+                printHelpAndExit(MAX_CONNECTIONS_PARAM + " must be a positive number", options);
+            }
+            if (tp.getCleanupThreads() < 1) {
+                printHelpAndExit(CLEANUP_THREADS_PARAM + " must be a positive number", options);
+            }
+            if (tp.getFailureLogSize() < 0) {
+                printHelpAndExit(FAILURE_LOG_SIZE_PARAM + " must not be negative", options);
+            }
+            if (tp.getFixturePoolSize() < 0) {
+                printHelpAndExit(FIXTURE_POOL_SIZE_PARAM + " must not be negative", options);
+            }
+        } catch (final NumberFormatException ex) {
+            printHelpAndExit(THREADS_PARAM + ", " + MAX_CONNECTIONS_PARAM + ", " + CLEANUP_THREADS_PARAM + ", " +
+                             FAILURE_LOG_SIZE_PARAM + " and " + FIXTURE_POOL_SIZE_PARAM + " must be numbers: " +
+                             ex.getMessage(), options);
+        }
+        final Lang rdfReadLang = RDFLanguages.contentTypeToLang(tp.getRdfReadFormat());
+        // Body matchers are handed the decoded text of the response, so binary syntaxes cannot be used
+        if (rdfReadLang == null || !RDFLanguages.isTriples(rdfReadLang) ||
+            RDFLanguages.THRIFT.equals(rdfReadLang)) {
+            printHelpAndExit(RDF_READ_FORMAT_PARAM + " must be a textual RDF syntax: " + tp.getRdfReadFormat(),
+                             options);
+        }
+        HttpConnectionPool.initialize(tp.getMaxConnections());
+        try {
+            RequestExecutor.initialize(tp.useBackgroundVirtualThreads());
+        } catch (final IllegalStateException ex) {
+            printHelpAndExit(ex.getMessage(), options);
+        }
+        if (!cleanupOnly && isNullOrEmpty(tp.getQueueName()) &&
             isNullOrEmpty(tp.getTopicName())) {
             throw new RuntimeException(String.format("One of %s, %s must be provided", QUEUE_NAME_PARAM,
                                                      TOPIC_NAME_PARAM));
@@ -276,7 +374,18 @@ public class App {
             }
         }
 
+        if (cleanupOnly) {
+            final boolean cleaned = replayCleanupJournals(new File(cmd.getOptionValue(CLEANUP_JOURNAL_PARAM)));
+            HttpConnectionPool.get().shutdown();
+            TestSuiteGlobals.closeLogFile();
+            System.exit(cleaned ? 0 : 1);
+        }
+
+        RequestTemplates.initialize(TestSuiteGlobals.testLog());
         tp.setTestContainerUrl(TestSuiteGlobals.containerTestSuite());
+        ServerCapabilities.discover(tp.getTestContainerUrl());
+        AclTemplates.preload();
+        FixturePool.initialize(tp.getTestContainerUrl(), tp.getFixturePoolSize());
 
         InputStream inputStream = null;
         if (params.get(TESTNGXML_PARAM).toString().isEmpty()) {
@@ -294,22 +403,68 @@ public class App {
             TESTNGXML_PARAM);
         final SuiteXmlParser xmlParser = new SuiteXmlParser();
         final XmlSuite xmlSuite = xmlParser.parse(testFilename, inputStream, true);
+        if (tp.getThreads() > 1) {
+            xmlSuite.setParallel(XmlSuite.ParallelMode.METHODS);
+            xmlSuite.setThreadCount(tp.getThreads());
+        }
 
         final TestNG testng = new TestNG();
         testng.setCommandLineSuite(xmlSuite);
+        testng.setMethodInterceptor(new TestScheduler());
         final String testngOutput = Paths.get(App.outputDirectory, "test-output").toString();
         testng.setOutputDirectory(testngOutput);
 
         // Set requirement-level groups to be run
         if (!params.get(REQUIREMENTS_PARAM).isEmpty()) {
             testng.setGroups(params.get(REQUIREMENTS_PARAM).toLowerCase());
+        } else if (params.get(TESTNGXML_PARAM).isEmpty()) {
+            // The default suite also holds the SCALE tests, which only run when asked for
+            testng.setGroups("all");
         }
 
         try {
             testng.run();
         } finally {
             TestSuiteGlobals.cleanupTestResources();
+            try (PrintStream log = TestSuiteGlobals.logFile()) {
+                log.println(HttpConnectionPool.get());
+            }
+            HttpConnectionPool.get().shutdown();
+            TestSuiteGlobals.closeLogFile();
+        }
+    }
+
+    /**
+     * Delete the resources recorded in a cleanup journal, or in every journal of a directory. Each journal is
+     * deleted once all of its resources have been deleted.
+     *
+     * @param path the journal or directory
+     * @return true if every resource was deleted
+     */
+    private static boolean replayCleanupJournals(final File path) {
+        final File[] journals = path.isDirectory() ?
+                                path.listFiles((dir, name) -> name.endsWith(CleanupJournal.SUFFIX)) :
+                                new File[] {path};
+        boolean cleaned = true;
+        for (final File journal : journals) {
+            final ResourceCleanupManager cleanupManager = new ResourceCleanupManager();
+            try {
+                CleanupJournal.replay(journal, cleanupManager);
+            } catch (final IOException ex) {
+                System.err.println("Unable to read cleanup journal '" + journal + "': " + ex.getMessage());
+                cleaned = false;
+                continue;
+            }
+            if (cleanupManager.cleanup()) {
+                journal.delete();
+                System.out.println("Cleaned up the resources recorded in " + journal);
+            } else {
+                System.err.println("Some resources recorded in " + journal + " could not be deleted, see the " +
+                                   "execution log.");
+                cleaned = false;
+            }
         }
+        return cleaned;
     }
 
     private static void printHelpAndExit(final String errorMessage, final Options options) {
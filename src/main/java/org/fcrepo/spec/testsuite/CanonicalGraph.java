@@ -0,0 +1,317 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.riot.system.StreamRDFBase;
+
+/**
+ * A graph reduced to the sorted 64-bit hashes of its triples, for comparing large graphs in linear time without
+ * holding them in memory. Two graphs are equal if their hashes are.
+ *
+ * Triples are hashed as they are parsed. Triples with blank nodes are kept until the end of the graph as the hash of
+ * their other nodes and the numbers of their blank nodes. Each blank node is then labelled by repeatedly hashing
+ * the triples it appears in along with the labels of its neighbours, until the labels tell no more blank nodes
+ * apart, so that the labels chosen by the server do not matter. Blank nodes with the same label still count once
+ * each. Graphs whose blank nodes cannot be told apart that way, such as two rings of blank nodes of different
+ * sizes, may compare equal without being isomorphic.
+ *
+ * @author dbernstein
+ */
+public final class CanonicalGraph {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long SUBJECT = 1;
+
+    private static final long OBJECT = 2;
+
+    private static final long SUBJECT_AND_OBJECT = 3;
+
+    private final long[] hashes;
+
+    private CanonicalGraph(final long[] hashes) {
+        this.hashes = hashes;
+    }
+
+    /**
+     * Parse a graph from a stream.
+     *
+     * @param in the serialized graph
+     * @param lang the syntax of the graph
+     * @return the graph
+     */
+    public static CanonicalGraph parse(final InputStream in, final Lang lang) {
+        final Sink sink = new Sink();
+        RDFParser.create().source(in).lang(lang).parse(sink);
+        return sink.graph();
+    }
+
+    /**
+     * Parse a graph from a string.
+     *
+     * @param body the serialized graph
+     * @param lang the syntax of the graph
+     * @return the graph
+     */
+    public static CanonicalGraph parse(final String body, final Lang lang) {
+        final Sink sink = new Sink();
+        RDFParser.create().fromString(body).lang(lang).parse(sink);
+        return sink.graph();
+    }
+
+    /**
+     * The number of distinct triples in the graph.
+     *
+     * @return the number of triples
+     */
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Describe how the graph differs from the expected one, for the message of a failed comparison.
+     *
+     * @param expected the expected graph
+     * @return the number of triples found in only one of the graphs
+     */
+    public String describeDifference(final CanonicalGraph expected) {
+        int unexpected = 0;
+        int missing = 0;
+        int i = 0;
+        int j = 0;
+        while (i < hashes.length || j < expected.hashes.length) {
+            if (j == expected.hashes.length || i < hashes.length && hashes[i] < expected.hashes[j]) {
+                unexpected++;
+                i++;
+            } else if (i == hashes.length || expected.hashes[j] < hashes[i]) {
+                missing++;
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return String.format(Locale.ROOT, "%d of %d triples were not expected and %d of %d are missing",
+                             unexpected, hashes.length, missing, expected.hashes.length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof CanonicalGraph && Arrays.equals(hashes, ((CanonicalGraph) o).hashes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(hashes);
+    }
+
+    @Override
+    public String toString() {
+        return "graph of " + hashes.length + " triples";
+    }
+
+    private static long hash(final String s) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < s.length(); i++) {
+            hash ^= s.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(final long hash, final long value) {
+        // The finalizer of MurmurHash3, so that labels which differ a little hash far apart
+        long h = (hash ^ value) * 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static int countDistinct(final long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private static class Sink extends StreamRDFBase {
+
+        private long[] hashes = new long[1024];
+
+        private int size;
+
+        private final Map<Node, Integer> blankNodes = new HashMap<>();
+
+        // For each triple with blank nodes, the hash of its other nodes and the numbers of its blank nodes, or -1
+        private long[] templates = new long[64];
+
+        private int[] subjects = new int[64];
+
+        private int[] objects = new int[64];
+
+        private int blankTriples;
+
+        @Override
+        public void triple(final Triple triple) {
+            final Node subject = triple.getSubject();
+            final Node object = triple.getObject();
+            if (!subject.isBlank() && !object.isBlank()) {
+                add(hash(NodeFmtLib.str(triple)));
+                return;
+            }
+            if (blankTriples == templates.length) {
+                templates = Arrays.copyOf(templates, blankTriples * 2);
+                subjects = Arrays.copyOf(subjects, blankTriples * 2);
+                objects = Arrays.copyOf(objects, blankTriples * 2);
+            }
+            templates[blankTriples] = hash((subject.isBlank() ? "_:" : NodeFmtLib.str(subject)) + ' ' +
+                                           NodeFmtLib.str(triple.getPredicate()) + ' ' +
+                                           (object.isBlank() ? "_:" : NodeFmtLib.str(object)));
+            subjects[blankTriples] = number(subject);
+            objects[blankTriples] = number(object);
+            blankTriples++;
+        }
+
+        private int number(final Node node) {
+            return node.isBlank() ? blankNodes.computeIfAbsent(node, n -> blankNodes.size()) : -1;
+        }
+
+        private void add(final long hash) {
+            if (size == hashes.length) {
+                hashes = Arrays.copyOf(hashes, size * 2);
+            }
+            hashes[size++] = hash;
+        }
+
+        private CanonicalGraph graph() {
+            final long[] sorted = Arrays.copyOf(hashes, size);
+            Arrays.sort(sorted);
+            // RDF graphs are sets, so drop duplicate triples
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+
+            // Unlike the hashes of the other triples, those of distinct triples with blank nodes may be the same
+            final boolean[] repeated = findRepeatedBlankTriples();
+            final long[] labels = labelBlankNodes(repeated);
+            final long[] all = Arrays.copyOf(sorted, distinct + blankTriples);
+            int count = distinct;
+            for (int i = 0; i < blankTriples; i++) {
+                if (repeated == null || !repeated[i]) {
+                    all[count++] = mix(mix(templates[i], label(labels, subjects[i])), label(labels, objects[i]));
+                }
+            }
+            final long[] canonical = Arrays.copyOf(all, count);
+            Arrays.sort(canonical);
+            return new CanonicalGraph(canonical);
+        }
+
+        /**
+         * Find the triples with blank nodes which repeat an earlier triple, and so must not be counted again.
+         *
+         * @return whether each triple repeats an earlier one, or null if none does
+         */
+        private boolean[] findRepeatedBlankTriples() {
+            final long[] keys = new long[blankTriples];
+            for (int i = 0; i < blankTriples; i++) {
+                keys[i] = mix(mix(templates[i], subjects[i]), objects[i]);
+            }
+            if (countDistinct(keys) == blankTriples) {
+                return null;
+            }
+            final boolean[] repeated = new boolean[blankTriples];
+            final Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < blankTriples; i++) {
+                repeated[i] = !seen.add(keys[i]);
+            }
+            return repeated;
+        }
+
+        /**
+         * Label each blank node with the hash of the triples it appears in and the labels of its neighbours, which
+         * is refined until no more blank nodes are told apart.
+         *
+         * @param repeated the triples to leave out, or null
+         * @return the label of each blank node, by number
+         */
+        private long[] labelBlankNodes(final boolean[] repeated) {
+            long[] labels = new long[blankNodes.size()];
+            int distinct = labels.length == 0 ? 0 : 1;
+            // Each round tells apart at least one more blank node, or changes nothing further
+            for (int round = 0; round < labels.length; round++) {
+                final long[] neighbourhoods = new long[labels.length];
+                for (int i = 0; i < blankTriples; i++) {
+                    if (repeated != null && repeated[i]) {
+                        continue;
+                    }
+                    final int subject = subjects[i];
+                    final int object = objects[i];
+                    // Summed, so that the order of the triples does not matter
+                    if (subject >= 0 && subject == object) {
+                        neighbourhoods[subject] += mix(templates[i], SUBJECT_AND_OBJECT);
+                    } else {
+                        if (subject >= 0) {
+                            neighbourhoods[subject] += mix(mix(templates[i], SUBJECT), label(labels, object));
+                        }
+                        if (object >= 0) {
+                            neighbourhoods[object] += mix(mix(templates[i], OBJECT), label(labels, subject));
+                        }
+                    }
+                }
+                final long[] refined = new long[labels.length];
+                for (int node = 0; node < labels.length; node++) {
+                    refined[node] = mix(labels[node], neighbourhoods[node]);
+                }
+                labels = refined;
+                final int refinedDistinct = countDistinct(labels);
+                if (refinedDistinct == distinct) {
+                    break;
+                }
+                distinct = refinedDistinct;
+            }
+            return labels;
+        }
+
+        private static long label(final long[] labels, final int node) {
+            return node < 0 ? 0 : labels[node];
+        }
+    }
+}
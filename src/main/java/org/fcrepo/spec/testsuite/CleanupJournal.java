@@ -0,0 +1,177 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * An append-only record of the resources created by a run, so that they can still be deleted when the run is
+ * killed before cleaning up after itself.
+ *
+ * Each line holds the url of a created resource, or of the test container when prefixed by "container ". A single
+ * background thread appends whatever lines are waiting and syncs them to disk, so that a run creating many
+ * resources at once does not sync the file once per resource.
+ *
+ * @author dbernstein
+ */
+public class CleanupJournal {
+
+    /**
+     * The extension of journal files.
+     */
+    public static final String SUFFIX = ".journal";
+
+    private static final String CONTAINER = "container ";
+
+    private static final String END = new String();
+
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+    private final File file;
+
+    private final FileChannel channel;
+
+    private final Thread writer;
+
+    /**
+     * Open the journal, appending to the given file.
+     *
+     * @param file the journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public CleanupJournal(final File file) throws IOException {
+        this.file = file;
+        channel = FileChannel.open(file.toPath(), CREATE, WRITE, APPEND);
+        writer = new Thread(this::write, "cleanup-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Record the url of the test container.
+     *
+     * @param url the url
+     */
+    public void recordContainer(final String url) {
+        lines.add(CONTAINER + url + '\n');
+    }
+
+    /**
+     * Record the url of a created resource.
+     *
+     * @param url the url
+     */
+    public void recordResource(final String url) {
+        lines.add(url + '\n');
+    }
+
+    /**
+     * Write out and sync all urls recorded so far, and close the file. Urls recorded afterwards are discarded.
+     */
+    public void close() {
+        lines.add(END);
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Close the journal and delete its file, once every resource it records has been deleted.
+     */
+    public void delete() {
+        close();
+        file.delete();
+    }
+
+    /**
+     * @return the journal file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Register the resources recorded in a journal file for cleanup. A last line cut short by the end of the run is
+     * ignored, as it may hold the url of an ancestor of the resource.
+     *
+     * @param file the journal file
+     * @param cleanupManager the cleanup manager
+     * @throws IOException if the file cannot be read
+     */
+    public static void replay(final File file, final ResourceCleanupManager cleanupManager) throws IOException {
+        final String[] lines = new String(Files.readAllBytes(file.toPath()), UTF_8).split("\n", -1);
+        for (final String line : Arrays.asList(lines).subList(0, lines.length - 1)) {
+            if (line.startsWith(CONTAINER)) {
+                cleanupManager.setTestContainerUrl(line.substring(CONTAINER.length()));
+            } else if (!line.isEmpty()) {
+                cleanupManager.registerResource(line);
+            }
+        }
+    }
+
+    private void write() {
+        final List<String> batch = new ArrayList<>();
+        try {
+            boolean open = true;
+            while (open) {
+                batch.add(lines.take());
+                lines.drainTo(batch);
+                final StringBuilder text = new StringBuilder();
+                for (final String line : batch) {
+                    if (line == END) {
+                        open = false;
+                        break;
+                    }
+                    text.append(line);
+                }
+                batch.clear();
+                final ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
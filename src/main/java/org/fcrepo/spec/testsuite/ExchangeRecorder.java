@@ -0,0 +1,147 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Keeps the most recent requests and responses of each test, and only logs them if the test does not pass.
+ *
+ * Exchanges are logged by RestAssured's logging filters into a buffer of the thread making the request, and kept
+ * against the log stream bound to that thread, which is shared by any background requests of the test.
+ *
+ * @author dbernstein
+ */
+public class ExchangeRecorder implements Filter {
+
+    private final int size;
+
+    private final ThreadLocalPrintStream testLog;
+
+    private final Map<PrintStream, Deque<byte[]>> exchanges = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<ByteArrayOutputStream> current = new ThreadLocal<>();
+
+    private final PrintStream exchangeLog = new PrintStream(new OutputStream() {
+        @Override
+        public void write(final int b) throws IOException {
+            final ByteArrayOutputStream out = current.get();
+            if (out != null) {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            final ByteArrayOutputStream out = current.get();
+            if (out != null) {
+                out.write(b, off, len);
+            }
+        }
+    });
+
+    private final Filter requestLogger = new RequestLoggingFilter(LogDetail.ALL, true, exchangeLog);
+
+    private final Filter responseLogger = new ResponseLoggingFilter(LogDetail.ALL, true, exchangeLog);
+
+    /**
+     * Constructor
+     *
+     * @param size the number of exchanges kept for each test
+     * @param testLog the test log, whose bound stream identifies the test making a request
+     */
+    public ExchangeRecorder(final int size, final ThreadLocalPrintStream testLog) {
+        this.size = size;
+        this.testLog = testLog;
+    }
+
+    /**
+     * Record the exchanges of the requests made with a specification.
+     *
+     * @param spec the request specification
+     * @return the specification
+     */
+    public RequestSpecification record(final RequestSpecification spec) {
+        // Runs ahead of the logging filters, so that they log into the buffer of the exchange
+        return spec.filter(this).filter(requestLogger).filter(responseLogger);
+    }
+
+    @Override
+    public Response filter(final FilterableRequestSpecification requestSpec,
+                           final FilterableResponseSpecification responseSpec, final FilterContext ctx) {
+        final PrintStream log = testLog.bound();
+        if (log == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        final ByteArrayOutputStream exchange = new ByteArrayOutputStream();
+        current.set(exchange);
+        try {
+            return ctx.next(requestSpec, responseSpec);
+        } finally {
+            current.remove();
+            // Kept even if the request failed, as the request alone may explain why
+            final Deque<byte[]> recent = exchanges.computeIfAbsent(log, k -> new ArrayDeque<>(size));
+            synchronized (recent) {
+                if (recent.size() == size) {
+                    recent.removeFirst();
+                }
+                recent.addLast(exchange.toByteArray());
+            }
+        }
+    }
+
+    /**
+     * Forget the exchanges recorded for a test, logging them first if asked to.
+     *
+     * @param log the log stream of the test
+     * @param print whether to log the exchanges
+     */
+    public void finish(final PrintStream log, final boolean print) {
+        if (log == null) {
+            return;
+        }
+        final Deque<byte[]> recent = exchanges.remove(log);
+        if (recent == null || !print) {
+            return;
+        }
+        synchronized (recent) {
+            log.append("Last ").append(String.valueOf(recent.size())).append(" requests of the test:\n");
+            for (final byte[] exchange : recent) {
+                log.write(exchange, 0, exchange.length);
+                log.append('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The execution log file, written by a single background thread.
+ *
+ * Each stream opened on the log collects its output in memory, and hands it to the writer as one block when it
+ * is closed, so the output of tests running in parallel is never interleaved. The writer batches blocks into a
+ * large buffer, and only writes it out once no more blocks are waiting.
+ *
+ * @author dbernstein
+ */
+public class ExecutionLog {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private static final byte[] END = new byte[0];
+
+    private final BlockingQueue<byte[]> blocks = new LinkedBlockingQueue<>();
+
+    private final FileChannel channel;
+
+    private final Thread writer;
+
+    /**
+     * Open the log, appending to the given file.
+     *
+     * @param file the log file
+     * @throws IOException if the file cannot be opened
+     */
+    public ExecutionLog(final File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), CREATE, WRITE, APPEND);
+        writer = new Thread(this::write, "execution-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Open a stream on the log. Nothing is written to the log until the stream is closed.
+     *
+     * @return the stream
+     */
+    public PrintStream open() {
+        return new PrintStream(new ByteArrayOutputStream(8192) {
+            private boolean closed;
+
+            @Override
+            public synchronized void close() {
+                if (!closed) {
+                    closed = true;
+                    if (count > 0) {
+                        blocks.add(toByteArray());
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Write out all blocks handed to the log so far, and close the file. Streams closed afterwards are discarded.
+     */
+    public void close() {
+        blocks.add(END);
+        try {
+            writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try {
+            byte[] block = blocks.take();
+            while (block != END) {
+                if (block.length > buffer.remaining()) {
+                    flush(buffer);
+                }
+                if (block.length > buffer.capacity()) {
+                    writeFully(ByteBuffer.wrap(block));
+                } else {
+                    buffer.put(block);
+                }
+                block = blocks.poll();
+                if (block == null) {
+                    flush(buffer);
+                    block = blocks.take();
+                }
+            }
+            flush(buffer);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final IOException e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void flush(final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static org.fcrepo.spec.testsuite.Constants.BASIC_CONTAINER_BODY;
+import static org.fcrepo.spec.testsuite.Constants.BASIC_CONTAINER_LINK_HEADER;
+import static org.fcrepo.spec.testsuite.Constants.CONTENT_DISPOSITION;
+import static org.fcrepo.spec.testsuite.Constants.SLUG;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Resources created before the tests start, so that tests which only need a new resource to work on do not spend
+ * their own time creating it. Each resource is handed to a single test, and a test falls back on creating its own
+ * once the pool runs dry.
+ *
+ * @author dbernstein
+ */
+public class FixturePool {
+
+    /**
+     * The body of the non-RDF sources in the pool.
+     */
+    public static final String NON_RDF_SOURCE_BODY = "TestString.";
+
+    /**
+     * The Content-Disposition of the non-RDF sources in the pool.
+     */
+    public static final String NON_RDF_SOURCE_DISPOSITION = "attachment; filename=\"fixture.txt\"";
+
+    private static FixturePool instance;
+
+    private final Queue<String> basicContainers = new ConcurrentLinkedQueue<>();
+
+    private final Queue<String> nonRdfSources = new ConcurrentLinkedQueue<>();
+
+    private FixturePool() {
+    }
+
+    /**
+     * Create the pool, creating the given number of basic containers and of non-RDF sources concurrently, within a
+     * container of their own.
+     *
+     * @param testContainerUrl the url of the test suite container
+     * @param size the number of resources of each kind, 0 for an empty pool
+     */
+    public static void initialize(final String testContainerUrl, final int size) {
+        if (instance != null) {
+            throw new IllegalStateException("The fixture pool has already been initialized.");
+        }
+        instance = new FixturePool();
+        if (size > 0) {
+            instance.fill(testContainerUrl, size);
+        }
+    }
+
+    /**
+     * Return the singleton
+     *
+     * @return the pool
+     */
+    public static FixturePool get() {
+        if (instance == null) {
+            throw new IllegalStateException("You must call initialize() on this class before accessing the pool.");
+        }
+        return instance;
+    }
+
+    /**
+     * Take a basic container from the pool.
+     *
+     * @return the url of the container, or null if there are none left
+     */
+    public String takeBasicContainer() {
+        return basicContainers.poll();
+    }
+
+    /**
+     * Take a non-RDF source from the pool.
+     *
+     * @return the url of the resource, or null if there are none left
+     */
+    public String takeNonRdfSource() {
+        return nonRdfSources.poll();
+    }
+
+    private void fill(final String testContainerUrl, final int size) {
+        final long start = System.nanoTime();
+        final String container = create(request().header("Link", BASIC_CONTAINER_LINK_HEADER)
+                                                 .header(SLUG, "fixtures"), testContainerUrl);
+        if (container == null) {
+            return;
+        }
+        final List<CompletableFuture<Void>> created = new ArrayList<>(2 * size);
+        for (int i = 0; i < size; i++) {
+            created.add(CompletableFuture.runAsync(() -> add(basicContainers, create(
+                request().contentType("text/turtle")
+                         .header("Link", BASIC_CONTAINER_LINK_HEADER)
+                         .body(BASIC_CONTAINER_BODY), container)), RequestExecutor.get()));
+            created.add(CompletableFuture.runAsync(() -> add(nonRdfSources, create(
+                request().contentType("text/plain")
+                         .header(CONTENT_DISPOSITION, NON_RDF_SOURCE_DISPOSITION)
+                         .body(NON_RDF_SOURCE_BODY), container)), RequestExecutor.get()));
+        }
+        created.forEach(CompletableFuture::join);
+        try (PrintStream log = TestSuiteGlobals.logFile()) {
+            Measurements.record(log, "Fixture pool", String.format(
+                Locale.ROOT, "%d basic containers and %d non-RDF sources created in %d ms", basicContainers.size(),
+                nonRdfSources.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+    }
+
+    private static void add(final Queue<String> pool, final String url) {
+        if (url != null) {
+            pool.add(url);
+        }
+    }
+
+    private static RequestSpecification request() {
+        return RequestTemplates.get().unloggedRequest(TestParameters.get().getRootControllerUserWebId());
+    }
+
+    // Returns null rather than failing, so that tests create their own resources instead
+    private static String create(final RequestSpecification request, final String parent) {
+        final Response response = request.when().post(parent);
+        if (response.getStatusCode() != 201) {
+            try (PrintStream log = TestSuiteGlobals.logFile()) {
+                log.append("Failed to create fixture in ").append(parent).append(": ")
+                   .append(response.getStatusLine()).append('\n');
+            }
+            return null;
+        }
+        TestSuiteGlobals.registerTestResource(response);
+        return response.getHeader("Location");
+    }
+}
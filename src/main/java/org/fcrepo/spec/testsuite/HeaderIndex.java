@@ -0,0 +1,130 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.core.Link;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.http.HeaderElement;
+import org.apache.http.message.BasicHeaderValueParser;
+
+/**
+ * The headers of a response, parsed the first time they are asked for and kept for as long as the response is, so
+ * that checking several values or links of the same header does not parse it again. An index only holds the headers
+ * of its response, never the response itself, so that it does not keep its own key alive.
+ *
+ * @author dbernstein
+ */
+public final class HeaderIndex {
+
+    private static final Map<Response, HeaderIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Headers headers;
+
+    private volatile Map<String, List<Link>> linksByRel;
+
+    private final Map<String, Set<String>> valuesByHeader = new ConcurrentHashMap<>();
+
+    private HeaderIndex(final Headers headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Get the index of a response.
+     *
+     * @param response the response
+     * @return the index
+     */
+    public static HeaderIndex of(final Response response) {
+        return INDEXES.computeIfAbsent(response, r -> new HeaderIndex(r.getHeaders()));
+    }
+
+    /**
+     * The links of a relation type, in the order they appear in the Link headers.
+     *
+     * @param relType the relation type, compared ignoring case
+     * @return the links, which must not be modified
+     */
+    public List<Link> getLinks(final String relType) {
+        Map<String, List<Link>> links = linksByRel;
+        if (links == null) {
+            // Parsing twice on a race is harmless, as both threads build the same index
+            links = indexLinks();
+            linksByRel = links;
+        }
+        return links.getOrDefault(relType.toLowerCase(Locale.ROOT), Collections.emptyList());
+    }
+
+    /**
+     * Whether a multi-value header, such as Allow or Vary, has a value.
+     *
+     * @param headerName the header, compared ignoring case
+     * @param value the value, compared ignoring case
+     * @return true if any of the header's comma-separated values is the value
+     */
+    public boolean hasValue(final String headerName, final String value) {
+        return getValues(headerName).contains(value.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * The comma-separated values of a multi-value header, such as Allow or Vary, across all of its occurrences.
+     *
+     * @param headerName the header, compared ignoring case
+     * @return the lower-cased values, which must not be modified
+     */
+    public Set<String> getValues(final String headerName) {
+        return valuesByHeader.computeIfAbsent(headerName.toLowerCase(Locale.ROOT), this::indexValues);
+    }
+
+    private Set<String> indexValues(final String headerName) {
+        final Set<String> values = new HashSet<>();
+        for (final Header header : headers.getList(headerName)) {
+            for (final HeaderElement element : BasicHeaderValueParser.parseElements(header.getValue(), null)) {
+                values.add(element.toString().trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return values;
+    }
+
+    private Map<String, List<Link>> indexLinks() {
+        final Map<String, List<Link>> links = new LinkedHashMap<>();
+        for (final Header header : headers.getList("Link")) {
+            // Link header may include multiple, comma-separated link values
+            for (final HeaderElement element : BasicHeaderValueParser.parseElements(header.getValue(), null)) {
+                final Link link = Link.valueOf(element.toString());
+                // Each link value may contain multiple "rel" values
+                for (final String rel : link.getRels()) {
+                    links.computeIfAbsent(rel.toLowerCase(Locale.ROOT), r -> new ArrayList<>()).add(link);
+                }
+            }
+        }
+        return links;
+    }
+}
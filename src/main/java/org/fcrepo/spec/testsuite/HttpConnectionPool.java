@@ -0,0 +1,192 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static io.restassured.config.HttpClientConfig.httpClientConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.restassured.RestAssured;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.entity.BufferedHttpEntity;
+
+/**
+ * A pool of keep-alive HTTP connections shared by every request of the test run, so that connections (and their
+ * TLS sessions) are reused rather than re-established for each request.
+ *
+ * RestAssured still creates a client per request, as it configures each client for the request at hand, but all
+ * of those clients lease their connections from this pool.
+ *
+ * The pool extends the connection manager that RestAssured's clients were built for, which HttpClient has since
+ * deprecated. Its classes are named in full, as imports are not covered by the suppressed warnings.
+ *
+ * @author dbernstein
+ */
+@SuppressWarnings("deprecation")
+public class HttpConnectionPool extends org.apache.http.impl.conn.PoolingClientConnectionManager {
+
+    private static HttpConnectionPool instance;
+
+    private static final ThreadLocal<Boolean> STREAMING = ThreadLocal.withInitial(() -> false);
+
+    private static final ThreadLocal<HttpEntity> REQUEST_BODY = new ThreadLocal<>();
+
+    private final AtomicLong opened = new AtomicLong();
+
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Create the shared pool and make it the default for all RestAssured requests.
+     *
+     * @param maxConnections the maximum number of connections held by the pool
+     */
+    public static void initialize(final int maxConnections) {
+        if (instance != null) {
+            throw new IllegalStateException("The connection pool has already been initialized.");
+        }
+        instance = new HttpConnectionPool(maxConnections);
+        RestAssured.config = RestAssured.config().httpClient(
+            httpClientConfig().httpClientFactory(instance::createHttpClient));
+    }
+
+    /**
+     * Return the singleton
+     *
+     * @return the instance, or null if the pool has not been initialized
+     */
+    public static HttpConnectionPool get() {
+        return instance;
+    }
+
+    /**
+     * Send requests on the current thread without buffering their response bodies, so that a large body can be read
+     * as it arrives. The caller must read each body to the end or close it, to hand the connection back to the pool.
+     *
+     * @param requests sends the requests
+     * @param <T> the result of the requests
+     * @return the result
+     */
+    public static <T> T streaming(final Supplier<T> requests) {
+        STREAMING.set(true);
+        try {
+            return requests.get();
+        } finally {
+            STREAMING.set(false);
+        }
+    }
+
+    /**
+     * Send requests on the current thread with the given body in place of any set through RestAssured, which would
+     * read a stream into memory before sending it.
+     *
+     * @param body the body of the requests
+     * @param requests sends the requests
+     * @param <T> the result of the requests
+     * @return the result
+     */
+    public static <T> T withBody(final HttpEntity body, final Supplier<T> requests) {
+        REQUEST_BODY.set(body);
+        try {
+            return requests.get();
+        } finally {
+            REQUEST_BODY.remove();
+        }
+    }
+
+    private HttpConnectionPool(final int maxConnections) {
+        super();
+        setMaxTotal(maxConnections);
+        // All requests go to the same repository, so a single route may use the whole pool
+        setDefaultMaxPerRoute(maxConnections);
+    }
+
+    private HttpClient createHttpClient() {
+        final org.apache.http.impl.client.DefaultHttpClient client =
+            new org.apache.http.impl.client.DefaultHttpClient(this);
+        // Runs ahead of the standard interceptors, so that they set the length or chunking of the substituted body
+        client.addRequestInterceptor((request, context) -> {
+            final HttpEntity body = REQUEST_BODY.get();
+            if (body != null && request instanceof HttpEntityEnclosingRequest) {
+                ((HttpEntityEnclosingRequest) request).setEntity(body);
+            }
+        }, 0);
+        // RestAssured does not always read the response to the end, which would hold on to the connection.
+        // Buffering the body up front hands the connection back to the pool as soon as the response arrives.
+        client.addResponseInterceptor((response, context) -> {
+            if (response.getEntity() != null && !STREAMING.get()) {
+                response.setEntity(new BufferedHttpEntity(response.getEntity()));
+            }
+        });
+        return client;
+    }
+
+    @Override
+    public org.apache.http.conn.ClientConnectionRequest requestConnection(final HttpRoute route,
+                                                                          final Object state) {
+        final org.apache.http.conn.ClientConnectionRequest request = super.requestConnection(route, state);
+        return new org.apache.http.conn.ClientConnectionRequest() {
+            @Override
+            public org.apache.http.conn.ManagedClientConnection getConnection(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ConnectionPoolTimeoutException {
+                final org.apache.http.conn.ManagedClientConnection connection = request.getConnection(timeout, unit);
+                // A leased connection is only already open if it was kept alive from an earlier request
+                if (connection.isOpen()) {
+                    reused.incrementAndGet();
+                } else {
+                    opened.incrementAndGet();
+                }
+                return connection;
+            }
+
+            @Override
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+
+    /**
+     * The number of new connections opened by the pool.
+     *
+     * @return the number of connections opened
+     */
+    public long getOpenedCount() {
+        return opened.get();
+    }
+
+    /**
+     * The number of requests served by a connection kept alive from an earlier request.
+     *
+     * @return the number of connections reused
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+
+    @Override
+    public String toString() {
+        return "HTTP connections opened: " + getOpenedCount() + ", reused: " + getReusedCount() +
+               ", pool size: " + getMaxTotal();
+    }
+}
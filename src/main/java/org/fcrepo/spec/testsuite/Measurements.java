@@ -0,0 +1,60 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of the SCALE tests, which measure the server rather than asserting a requirement, collected for the
+ * report in the order they were taken.
+ *
+ * @author dbernstein
+ */
+public final class Measurements {
+
+    private static final Map<String, String> RESULTS = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private Measurements() {
+    }
+
+    /**
+     * Record a measurement, and write it to the log of the current test.
+     *
+     * @param log the log of the current test
+     * @param subject what was measured
+     * @param result the measured values
+     */
+    public static void record(final PrintStream log, final String subject, final String result) {
+        log.append(subject).append(": ").append(result).append("\n");
+        RESULTS.put(subject, result);
+    }
+
+    /**
+     * All measurements taken so far.
+     *
+     * @return the measurements, keyed by what was measured
+     */
+    public static Map<String, String> get() {
+        synchronized (RESULTS) {
+            return new LinkedHashMap<>(RESULTS);
+        }
+    }
+}
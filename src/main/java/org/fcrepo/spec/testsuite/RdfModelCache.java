@@ -0,0 +1,110 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+
+/**
+ * A bounded cache of parsed response bodies, so that asserting several triples against the same body only parses
+ * it once. The cache is bounded by the total length of the cached bodies, as a parsed model grows with its body,
+ * and the least recently used models are evicted first. Bodies longer than the bound are never cached.
+ *
+ * Cached models are shared between tests, and must not be modified.
+ *
+ * @author dbernstein
+ */
+public final class RdfModelCache {
+
+    private static final long MAX_BODY_CHARS = 4L * 1024 * 1024;
+
+    private static final LinkedHashMap<Key, Model> MODELS = new LinkedHashMap<>(64, 0.75f, true);
+
+    private static long cachedChars;
+
+    private RdfModelCache() {
+    }
+
+    /**
+     * Get the model of an RDF body, parsing it unless it is cached.
+     *
+     * @param body the RDF body
+     * @param lang the RDF syntax of the body
+     * @return the model, which must not be modified
+     */
+    public static Model get(final String body, final String lang) {
+        final Key key = new Key(body, lang);
+        synchronized (MODELS) {
+            final Model cached = MODELS.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Parse outside the lock, so that other threads are not held up by a large body
+        final Model model = ModelFactory.createDefaultModel();
+        model.read(new StringReader(body), "", lang);
+        if (body.length() <= MAX_BODY_CHARS) {
+            put(key, model);
+        }
+        return model;
+    }
+
+    private static void put(final Key key, final Model model) {
+        synchronized (MODELS) {
+            if (MODELS.put(key, model) == null) {
+                cachedChars += key.body.length();
+            }
+            final Iterator<Key> eldest = MODELS.keySet().iterator();
+            while (cachedChars > MAX_BODY_CHARS) {
+                cachedChars -= eldest.next().body.length();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static class Key {
+
+        private final String body;
+
+        private final String lang;
+
+        private Key(final String body, final String lang) {
+            this.body = body;
+            this.lang = lang;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return lang.equals(other.lang) && body.equals(other.body);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(body, lang);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs requests issued in the background by tests. By default each request gets a pooled platform thread; on
+ * Java 21 or later the executor may instead start a virtual thread per request, so that thousands of blocking
+ * requests can be in flight at once. Either way the number of concurrent requests is bounded by the size of the
+ * {@link HttpConnectionPool}.
+ *
+ * @author dbernstein
+ */
+public class RequestExecutor {
+
+    private static ExecutorService instance;
+
+    private RequestExecutor() {
+    }
+
+    /**
+     * Create the executor
+     *
+     * @param virtualThreads whether to run each request on a virtual thread
+     * @throws IllegalStateException if virtual threads are requested but not supported by this Java runtime
+     */
+    public static void initialize(final boolean virtualThreads) {
+        if (instance != null) {
+            throw new IllegalStateException("The request executor has already been initialized.");
+        }
+        instance = virtualThreads ? createVirtualThreadExecutor() : createPlatformThreadExecutor();
+    }
+
+    /**
+     * Return the singleton
+     *
+     * @return the executor
+     */
+    public static ExecutorService get() {
+        if (instance == null) {
+            throw new IllegalStateException("You must call initialize() on this class before accessing the executor.");
+        }
+        return instance;
+    }
+
+    private static ExecutorService createPlatformThreadExecutor() {
+        return Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "async-request");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        // Looked up reflectively as the test suite is built for Java 8
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException ex) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later, but this is Java " +
+                                            System.getProperty("java.version"));
+        } catch (final ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to create a virtual thread executor: " + ex.getMessage(), ex);
+        }
+    }
+}
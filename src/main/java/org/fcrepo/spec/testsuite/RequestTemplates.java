@@ -0,0 +1,157 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static io.restassured.config.RedirectConfig.redirectConfig;
+import static org.fcrepo.spec.testsuite.Constants.APPLICATION_SPARQL_UPDATE;
+import static org.fcrepo.spec.testsuite.authn.AuthUtil.auth;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.restassured.RestAssured;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Request specifications for each test user, with authentication, redirect, logging and url-encoding configuration
+ * built once at startup. Tests receive a fresh copy of the template for every request, so the templates
+ * themselves are never modified.
+ *
+ * @author dbernstein
+ */
+public class RequestTemplates {
+
+    private static RequestTemplates instance;
+
+    private final RestAssuredConfig config;
+
+    private final RestAssuredConfig unloggedConfig;
+
+    private final RestAssuredConfig streamedBodyConfig;
+
+    private final RestAssuredConfig sparqlUpdateConfig;
+
+    private final Map<String, RequestSpecification> templates = new HashMap<>();
+
+    private final ExchangeRecorder recorder;
+
+    /**
+     * Build the templates for the root controller and permissionless users
+     *
+     * @param log the test log, to which requests and responses are logged
+     */
+    public static void initialize(final ThreadLocalPrintStream log) {
+        if (instance != null) {
+            throw new IllegalStateException("The request templates have already been initialized.");
+        }
+        instance = new RequestTemplates(log);
+    }
+
+    /**
+     * Return the singleton
+     *
+     * @return the instance
+     */
+    public static RequestTemplates get() {
+        return instance;
+    }
+
+    private RequestTemplates(final ThreadLocalPrintStream log) {
+        final TestParameters params = TestParameters.get();
+        final int failureLogSize = params.getFailureLogSize();
+        this.recorder = failureLogSize > 0 ? new ExchangeRecorder(failureLogSize, log) : null;
+        final LogConfig logConfig = new LogConfig().defaultStream(log);
+        final RestAssuredConfig baseConfig = RestAssured.config().redirect(redirectConfig().followRedirects(false));
+        // Unlogged requests may carry a streamed body, whose charset RestAssured cannot know
+        this.unloggedConfig = baseConfig.encoderConfig(
+            new EncoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
+        this.config = baseConfig.logConfig(recorder != null ? logConfig :
+                                           logConfig.enableLoggingOfRequestAndResponseIfValidationFails());
+        this.streamedBodyConfig = config.encoderConfig(
+            new EncoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
+        this.sparqlUpdateConfig = RestAssured.config().encoderConfig(
+            new EncoderConfig().encodeContentTypeAs(APPLICATION_SPARQL_UPDATE, ContentType.TEXT)
+                               .appendDefaultContentCharsetToContentTypeIfUndefined(false));
+        templates.put(params.getRootControllerUserWebId(), createTemplate(params.getRootControllerUserWebId()));
+        templates.put(params.getPermissionlessUserWebId(), createTemplate(params.getPermissionlessUserWebId()));
+    }
+
+    private RequestSpecification createTemplate(final String webId) {
+        final RequestSpecification template = auth(RestAssured.given(), webId)
+            .urlEncodingEnabled(false)
+            .config(config);
+        return recorder != null ? recorder.record(template) : template.log().all();
+    }
+
+    /**
+     * Create a new request for the given user.
+     *
+     * @param webId the WebID of the user making the request
+     * @return a request specification which may be freely modified
+     */
+    public RequestSpecification request(final String webId) {
+        final RequestSpecification template = templates.get(webId);
+        if (template == null) {
+            return createTemplate(webId);
+        }
+        return RestAssured.given().spec(template);
+    }
+
+    /**
+     * Create a new request for the given user which is not logged, for bulk requests whose exchanges would
+     * overwhelm the test log.
+     *
+     * @param webId the WebID of the user making the request
+     * @return a request specification which may be freely modified
+     */
+    public RequestSpecification unloggedRequest(final String webId) {
+        // Logging on validation failure would buffer the response body, so it is not configured either
+        return auth(RestAssured.given(), webId).urlEncodingEnabled(false).config(unloggedConfig);
+    }
+
+    /**
+     * The recorder keeping recent exchanges of each test, when only those of tests which do not pass are logged.
+     *
+     * @return the recorder, or null if all requests are logged
+     */
+    public ExchangeRecorder getExchangeRecorder() {
+        return recorder;
+    }
+
+    /**
+     * The configuration for requests with a {@link StreamedBody}, whose charset RestAssured cannot know.
+     *
+     * @return the configuration
+     */
+    public RestAssuredConfig getStreamedBodyConfig() {
+        return streamedBodyConfig;
+    }
+
+    /**
+     * The configuration for requests with a SPARQL Update body.
+     *
+     * @return the configuration
+     */
+    public RestAssuredConfig getSparqlUpdateConfig() {
+        return sparqlUpdateConfig;
+    }
+}
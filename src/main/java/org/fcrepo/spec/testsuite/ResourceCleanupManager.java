@@ -18,10 +18,22 @@
 package org.fcrepo.spec.testsuite;
 
 import java.io.PrintStream;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import javax.ws.rs.core.Link;
 
@@ -39,7 +51,36 @@ public class ResourceCleanupManager {
 
     private String testContainerUrl;
 
-    private List<String> createdResources = new ArrayList<>();
+    private final List<String> createdResources = Collections.synchronizedList(new ArrayList<>());
+
+    private final Map<PrintStream, List<String>> testResources = new ConcurrentHashMap<>();
+
+    private final CleanupJournal journal;
+
+    private final ExecutorService testCleanup;
+
+    private final ThreadLocal<Boolean> creatingShared = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Create a cleanup manager which only holds the created resources in memory, and deletes them all at the end.
+     */
+    public ResourceCleanupManager() {
+        this(null, false);
+    }
+
+    /**
+     * Create a cleanup manager which also records the created resources in a journal, so that they can be deleted
+     * should the run end before cleaning up.
+     *
+     * @param journal the journal, or null
+     * @param incremental whether the resources created by a test are deleted in the background once it finishes,
+     *                    rather than at the end
+     */
+    public ResourceCleanupManager(final CleanupJournal journal, final boolean incremental) {
+        this.journal = journal;
+        this.testCleanup = incremental ? createExecutor(TestParameters.get().getCleanupThreads(), "test-cleanup") :
+                           null;
+    }
 
     /**
      * Add a url to the list of created fedora resources
@@ -48,50 +89,232 @@ public class ResourceCleanupManager {
      */
     public void registerResource(final String url) {
         if (url != null) {
-            createdResources.add(url);
+            if (journal != null) {
+                journal.recordResource(url);
+            }
+            // Resources created outside of a test, such as the container of a test class, are kept to the end
+            final PrintStream log = testCleanup == null || creatingShared.get() ? null :
+                                    TestSuiteGlobals.testLog().bound();
+            if (log == null) {
+                createdResources.add(url);
+            } else {
+                testResources.computeIfAbsent(log, k -> Collections.synchronizedList(new ArrayList<>())).add(url);
+            }
         }
     }
 
     /**
-     * Cleanup the created Fedora resources.
+     * Add the url of a resource whose container is also registered. Should the server delete containers along with
+     * their children, the resource is only recorded in the journal, so that it is not deleted again after its
+     * container.
+     *
+     * @param url url to add
+     */
+    public void registerContainedResource(final String url) {
+        if (url != null && ServerCapabilities.get().supportsDeleteOfContainersWithChildren()) {
+            if (journal != null) {
+                journal.recordResource(url);
+            }
+        } else {
+            registerResource(url);
+        }
+    }
+
+    /**
+     * Create resources shared by several tests. They are kept to the end of the run, rather than deleted when the
+     * test creating them finishes.
+     *
+     * @param create creates the resources
+     * @param <T> the type of the result
+     * @return the result of the creation
+     */
+    public <T> T createShared(final Supplier<T> create) {
+        creatingShared.set(true);
+        try {
+            return create.get();
+        } finally {
+            creatingShared.remove();
+        }
+    }
+
+    /**
+     * Delete in the background the resources created by a test which has finished, if resources are cleaned up
+     * incrementally. Those which cannot be deleted are tried again at the end.
+     *
+     * @param log the log stream of the test, to which the requests of the test were bound
+     */
+    public void cleanupTest(final PrintStream log) {
+        if (testCleanup == null || log == null) {
+            return;
+        }
+        final List<String> urls = testResources.remove(log);
+        if (urls == null) {
+            return;
+        }
+        // Tests running alone, such as those listening for events, must not see these deletions
+        testCleanup.execute(() -> TestScheduler.runAlongsideTests(() -> {
+            for (final Collection<String> level : byDepth(urls).values()) {
+                for (final String url : level) {
+                    if (!tryDeleteResource(url)) {
+                        createdResources.add(url);
+                    }
+                }
+            }
+        }));
+    }
+
+    /**
+     * Cleanup the created Fedora resources. The journal is deleted once every resource has been deleted, and kept
+     * otherwise.
+     *
+     * @return true if every resource was deleted
      */
-    public void cleanup() {
+    public boolean cleanup() {
+        final boolean cleaned = cleanupAll();
+        if (journal != null) {
+            if (cleaned) {
+                journal.delete();
+            } else {
+                journal.close();
+                try (PrintStream log = TestSuiteGlobals.logFile()) {
+                    log.append("Test resources left in the repository are recorded in:\n")
+                       .append(journal.getFile().getPath()).append('\n');
+                }
+            }
+        }
+        return cleaned;
+    }
+
+    private boolean cleanupAll() {
+        if (testCleanup != null) {
+            awaitTestCleanup();
+        }
         // Attempt to recursively delete test container to save time
         if (testContainerUrl != null) {
             if (cleanupTestContainer()) {
-                return;
+                return true;
             }
         }
         // Either there was no test container, or it couldn't be recursively deleted
-        // So delete each resource in reverse order added to avoid recursion
-        Collections.reverse(createdResources);
-        // if present, register test container for deletion after all its children
+        // So delete each resource after all of its children, which are deeper in the path hierarchy
         if (testContainerUrl != null) {
             createdResources.add(testContainerUrl);
         }
-        cleanupResources();
+        return cleanupResources(TestParameters.get().getCleanupThreads());
     }
 
     private boolean cleanupTestContainer() {
         // Determine if recursive delete allowed
-        final Response resp = auth(RestAssured.given())
-                .when()
-                .options(testContainerUrl);
+        final Response resp;
+        try {
+            resp = auth(RestAssured.given())
+                    .when()
+                    .options(testContainerUrl);
+        } catch (final Exception ex) {
+            // Fall back on deleting each resource
+            return false;
+        }
 
         final String allowHeader = resp.header("Allow");
         if (allowHeader == null || !allowHeader.contains("DELETE")) {
             return false;
         }
-        return deleteResource(testContainerUrl);
+        return tryDeleteResource(testContainerUrl);
     }
 
     private RequestSpecification auth(final RequestSpecification given) {
         return AuthUtil.auth(given, TestParameters.get().getRootControllerUserWebId());
     }
 
-    private void cleanupResources() {
-        for (final String resourceUrl : createdResources) {
-            deleteResource(resourceUrl);
+    private void awaitTestCleanup() {
+        testCleanup.shutdown();
+        try {
+            testCleanup.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Left by tests which did not finish, or registered by their requests after they finished
+        testResources.values().forEach(createdResources::addAll);
+        testResources.clear();
+    }
+
+    private static ExecutorService createExecutor(final int threads, final String name) {
+        return Executors.newFixedThreadPool(threads, r -> {
+            final Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private boolean cleanupResources(final int threads) {
+        final ExecutorService executor = createExecutor(threads, "resource-cleanup");
+        final AtomicBoolean cleaned = new AtomicBoolean(true);
+        try {
+            // Resources of one level cannot contain each other, so they are deleted concurrently
+            for (final Collection<String> level : byDepth(createdResources).values()) {
+                CompletableFuture.allOf(level.stream()
+                                             .map(url -> CompletableFuture.runAsync(() -> {
+                                                 if (!tryDeleteResource(url)) {
+                                                     cleaned.set(false);
+                                                 }
+                                             }, executor))
+                                             .toArray(CompletableFuture[]::new))
+                                 .join();
+            }
+            return cleaned.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Group resources by the number of segments in their path, deepest first.
+     *
+     * @param urls urls of the resources
+     * @return the urls of each level, without duplicates
+     */
+    private static Map<Integer, Collection<String>> byDepth(final List<String> urls) {
+        final Map<Integer, Collection<String>> levels = new TreeMap<>(Collections.reverseOrder());
+        synchronized (urls) {
+            for (final String url : urls) {
+                levels.computeIfAbsent(depth(url), d -> new LinkedHashSet<>()).add(url);
+            }
+        }
+        return levels;
+    }
+
+    private static int depth(final String url) {
+        final String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (final IllegalArgumentException ex) {
+            return 0;
+        }
+        int depth = 0;
+        for (final String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Delete a resource, treating a failed request like a failed deletion so that cleanup carries on.
+     *
+     * @param url the url of the resource
+     * @return true if the resource was deleted
+     */
+    private boolean tryDeleteResource(final String url) {
+        try {
+            return deleteResource(url);
+        } catch (final Exception ex) {
+            // RestAssured rethrows checked exceptions, such as a refused connection, unwrapped
+            try (PrintStream log = TestSuiteGlobals.logFile()) {
+                log.append("Failed to cleanup test resource:\n").append(url).append('\n')
+                   .append(ex.toString()).append('\n');
+            }
+            return false;
         }
     }
 
@@ -100,9 +323,14 @@ public class ResourceCleanupManager {
                 .when()
                 .delete(url);
 
+        // Already deleted, such as by an earlier attempt to clean up after the same run
+        if (resp.statusCode() == 404 || resp.statusCode() == 410) {
+            return true;
+        }
         if (resp.statusCode() != 204 && resp.statusCode() != 200) {
-            final PrintStream log = TestSuiteGlobals.logFile();
-            log.append("Failed to cleanup test resource:\n").append(url).append('\n');
+            try (PrintStream log = TestSuiteGlobals.logFile()) {
+                log.append("Failed to cleanup test resource:\n").append(url).append('\n');
+            }
             return false;
         } else {
             final Response headResp = auth(RestAssured.given())
@@ -134,5 +362,8 @@ public class ResourceCleanupManager {
      */
     public void setTestContainerUrl(final String testContainerUrl) {
         this.testContainerUrl = testContainerUrl;
+        if (journal != null) {
+            journal.recordContainer(testContainerUrl);
+        }
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static java.util.Collections.emptyList;
+import static org.fcrepo.spec.testsuite.Constants.BASIC_CONTAINER_LINK_HEADER;
+import static org.fcrepo.spec.testsuite.Constants.ORIGINAL_RESOURCE_LINK_HEADER;
+import static org.fcrepo.spec.testsuite.Constants.SLUG;
+import static org.fcrepo.spec.testsuite.TestSuiteGlobals.registerTestResource;
+import static org.fcrepo.spec.testsuite.authn.AuthUtil.auth;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.ws.rs.core.Link;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.message.BasicHeaderValueParser;
+
+/**
+ * Optional features of the server under test, probed once before any test runs so that tests depending on a
+ * feature can skip without probing for it themselves.
+ *
+ * @author dbernstein
+ */
+public class ServerCapabilities {
+
+    private static ServerCapabilities instance;
+
+    private final List<String> externalContentHandling;
+
+    private final boolean stateTokens;
+
+    private final boolean versionedByDefault;
+
+    private final boolean deleteContainersWithChildren;
+
+    private final boolean clientAclLinking;
+
+    /**
+     * Probe the capabilities of the server, within the given container.
+     *
+     * @param containerUrl the url of the container in which probe resources are created
+     */
+    public static void discover(final String containerUrl) {
+        if (instance != null) {
+            throw new IllegalStateException("The server capabilities have already been discovered.");
+        }
+
+        instance = new ServerCapabilities(containerUrl);
+    }
+
+    /**
+     * Return the singleton
+     * @return the instance
+     */
+    public static ServerCapabilities get() {
+        return instance;
+    }
+
+    private ServerCapabilities(final String containerUrl) {
+        final String probeUri = getLocation(createBasicContainer(containerUrl, "capabilities"));
+
+        final Response get = request().when().get(probeUri);
+        stateTokens = get.getHeaders().hasHeaderWithName("X-State-Token");
+        versionedByDefault = getLinks(get).anyMatch(link -> link.getRels().contains("type") && link.getUri()
+                .equals(Link.valueOf(ORIGINAL_RESOURCE_LINK_HEADER).getUri()));
+
+        final Response options = request().when().options(probeUri);
+        final String handling = options.header("Accept-External-Content-Handling");
+        externalContentHandling = handling == null ? null :
+                Arrays.stream(BasicHeaderValueParser.parseElements(handling, null))
+                      .map(Objects::toString).collect(Collectors.toList());
+
+        createBasicContainer(probeUri, "child");
+        final String allow = request().when().options(probeUri).header("Allow");
+        deleteContainersWithChildren = allow != null && allow.contains("DELETE");
+
+        // Last, as a successful PUT replaces the probe container
+        final String aclUri = getLocation(createBasicContainer(probeUri, "acl"));
+        final int status = request().header("Link", "<" + aclUri + ">; rel=\"acl\"")
+                                    .body("test body")
+                                    .when()
+                                    .put(probeUri).getStatusCode();
+        clientAclLinking = status >= 200 && status < 300;
+    }
+
+    private static RequestSpecification request() {
+        return auth(RestAssured.given(), TestParameters.get().getRootControllerUserWebId());
+    }
+
+    private static Response createBasicContainer(final String parentUri, final String slug) {
+        final Response res = request().contentType("text/turtle")
+                                      .header("Link", BASIC_CONTAINER_LINK_HEADER)
+                                      .header(SLUG, slug)
+                                      .when()
+                                      .post(parentUri);
+        res.then().statusCode(201);
+        return registerTestResource(res);
+    }
+
+    private static String getLocation(final Response response) {
+        return response.getHeader("Location");
+    }
+
+    private static Stream<Link> getLinks(final Response response) {
+        return response.getHeaders().getList("Link").stream()
+                .flatMap(header -> Arrays.stream(BasicHeaderValueParser.parseElements(header.getValue(), null))
+                        .map(linkElement -> Link.valueOf(linkElement.toString())));
+    }
+
+    /**
+     * Whether the server supports external content, as advertised by OPTIONS.
+     * @return true if external content is supported
+     */
+    public boolean supportsExternalContent() {
+        return externalContentHandling != null;
+    }
+
+    /**
+     * The external content handling types the server accepts.
+     * @return the handling types, empty if external content is not supported
+     */
+    public List<String> getExternalContentHandling() {
+        return externalContentHandling == null ? emptyList() : externalContentHandling;
+    }
+
+    /**
+     * Whether the server provides X-State-Token headers on GET.
+     * @return true if state tokens are supported
+     */
+    public boolean supportsStateTokens() {
+        return stateTokens;
+    }
+
+    /**
+     * Whether the server makes new containers versioned resources by default.
+     * @return true if containers are versioned by default
+     */
+    public boolean isVersionedByDefault() {
+        return versionedByDefault;
+    }
+
+    /**
+     * Whether the server advertises DELETE for containers with contained resources.
+     * @return true if such containers may be deleted
+     */
+    public boolean supportsDeleteOfContainersWithChildren() {
+        return deleteContainersWithChildren;
+    }
+
+    /**
+     * Whether the server accepts a client-provided rel="acl" link on PUT.
+     * @return true if clients may link resources to ACLs of their choice
+     */
+    public boolean supportsClientAclLinking() {
+        return clientAclLinking;
+    }
+
+    /**
+     * Describe the detected capabilities, for reports.
+     * @return the capabilities by name, in a stable order
+     */
+    public Map<String, String> describe() {
+        final Map<String, String> capabilities = new LinkedHashMap<>();
+        capabilities.put("External content", !supportsExternalContent() ? "no" :
+                externalContentHandling.isEmpty() ? "yes" : String.join(", ", externalContentHandling));
+        capabilities.put("State tokens", yesNo(stateTokens));
+        capabilities.put("Versioned by default", yesNo(versionedByDefault));
+        capabilities.put("DELETE of containers with children", yesNo(deleteContainersWithChildren));
+        capabilities.put("Client-provided ACL links", yesNo(clientAclLinking));
+        return capabilities;
+    }
+
+    private static String yesNo(final boolean value) {
+        return value ? "yes" : "no";
+    }
+}
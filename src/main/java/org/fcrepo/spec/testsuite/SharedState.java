@@ -0,0 +1,57 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the shared state touched by a test method, or by every test method of a class. The {@link TestScheduler}
+ * never runs two tests touching the same state at the same time, and orders them deterministically. Tests declaring
+ * no shared state run with maximum concurrency.
+ *
+ * @author dbernstein
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface SharedState {
+
+    /**
+     * ACLs written by the test. A server may hand out an inherited ACL for a resource which has none of its own,
+     * so writing an ACL may affect resources of other tests.
+     */
+    String ACL = "acl";
+
+    /**
+     * The container of the test class itself, as opposed to resources created within it. Only conflicts with other
+     * tests of the same class.
+     */
+    String TEST_CONTAINER = "test-container";
+
+    /**
+     * The names of the shared state touched by the test. If empty, the test touches state which cannot be named
+     * and runs with no other test at all.
+     */
+    String[] value() default {};
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.http.entity.AbstractHttpEntity;
+
+/**
+ * A request body read from a stream as it is sent, so that it is never held in memory. A body opened by a supplier
+ * or read from a file opens a new stream for each attempt to send it, such as the retry after an authentication
+ * challenge. A body read from a given stream can only be sent once.
+ *
+ * @author dbernstein
+ */
+public class StreamedBody extends AbstractHttpEntity {
+
+    private final Supplier<InputStream> content;
+
+    private final long length;
+
+    private final boolean repeatable;
+
+    private final AtomicBoolean sent = new AtomicBoolean();
+
+    /**
+     * @param content opens the body
+     * @param length the length of the body, or a negative number to send it chunked
+     */
+    public StreamedBody(final Supplier<InputStream> content, final long length) {
+        this(content, length, true);
+    }
+
+    private StreamedBody(final Supplier<InputStream> content, final long length, final boolean repeatable) {
+        this.content = content;
+        this.length = length;
+        this.repeatable = repeatable;
+        setChunked(length < 0);
+    }
+
+    /**
+     * A body read from a stream, sent chunked.
+     *
+     * @param in the stream, which is closed once it has been sent
+     * @return the body
+     */
+    public static StreamedBody of(final InputStream in) {
+        return of(in, -1);
+    }
+
+    /**
+     * A body read from a stream.
+     *
+     * @param in the stream, which is closed once it has been sent
+     * @param length the length of the body, or a negative number to send it chunked
+     * @return the body
+     */
+    public static StreamedBody of(final InputStream in, final long length) {
+        return new StreamedBody(() -> in, length, false);
+    }
+
+    /**
+     * A body read from a file, sent with its length.
+     *
+     * @param file the file
+     * @return the body
+     */
+    public static StreamedBody of(final File file) {
+        return new StreamedBody(() -> {
+            try {
+                return new FileInputStream(file);
+            } catch (final FileNotFoundException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, file.length());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+
+    @Override
+    public String toString() {
+        return length < 0 ? "chunked body" : "body of " + length + " bytes";
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return content.get();
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        if (sent.getAndSet(true) && !repeatable) {
+            throw new IOException("The " + this + " read from a stream cannot be sent again");
+        }
+        try (InputStream in = content.get()) {
+            IOUtils.copyLarge(in, out);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+}
@@ -18,8 +18,8 @@
 
 package org.fcrepo.spec.testsuite;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class that holds static description information related to tests.
@@ -28,7 +28,7 @@ import java.util.Map;
  */
 public class TestInfo {
 
-    private final static Map<String, TestInfo> TEST_INFO = new HashMap<>();
+    private final static Map<String, TestInfo> TEST_INFO = new ConcurrentHashMap<>();
 
     private final String id;
     private final Class testClass;
@@ -53,11 +53,10 @@ public class TestInfo {
         this.description = description;
         this.specLink = specLink;
 
-        if (TEST_INFO.containsKey(title)) {
+        if (TEST_INFO.putIfAbsent(title, this) != null) {
             throw new RuntimeException(
                 "The crud titles must be unique across the crud suite: " + title + " is duplicated.");
         }
-        TEST_INFO.put(title, this);
     }
 
     /**
@@ -68,6 +68,22 @@ public class TestParameters {
 
     public final static String IMPLEMENTATION_NOTES_PARAM = "implementation-notes";
 
+    public final static String THREADS_PARAM = "threads";
+
+    public final static String MAX_CONNECTIONS_PARAM = "max-connections";
+
+    public final static String BACKGROUND_VIRTUAL_THREADS_PARAM = "background-virtual-threads";
+
+    public final static String CLEANUP_THREADS_PARAM = "cleanup-threads";
+
+    public final static String INCREMENTAL_CLEANUP_PARAM = "incremental-cleanup";
+
+    public final static String FIXTURE_POOL_SIZE_PARAM = "fixture-pool-size";
+
+    public final static String FAILURE_LOG_SIZE_PARAM = "failure-log-size";
+
+    public final static String RDF_READ_FORMAT_PARAM = "rdf-read-format";
+
     private static TestParameters instance;
 
     private Map<String, String> params = null;
@@ -234,4 +250,75 @@ public class TestParameters {
     public String getImplementationVersion() {
         return params.get(IMPLEMENTATION_VERSION_PARAM);
     }
+
+    /**
+     * Get the number of threads used to run test methods in parallel.
+     * @return the number of threads, 1 if the suite runs serially
+     */
+    public int getThreads() {
+        final String threads = params.get(THREADS_PARAM);
+        return threads == null || threads.isEmpty() ? 1 : Integer.parseInt(threads);
+    }
+
+    /**
+     * Get the maximum number of HTTP connections held open to the repository.
+     * @return the maximum number of connections, by default 20 or the number of threads if greater
+     */
+    public int getMaxConnections() {
+        final String maxConnections = params.get(MAX_CONNECTIONS_PARAM);
+        return maxConnections == null || maxConnections.isEmpty() ? Math.max(20, getThreads()) :
+               Integer.parseInt(maxConnections);
+    }
+
+    /**
+     * Get the number of resources deleted concurrently when cleaning up after the tests.
+     * @return the number of threads, by default the maximum number of connections
+     */
+    public int getCleanupThreads() {
+        final String threads = params.get(CLEANUP_THREADS_PARAM);
+        return threads == null || threads.isEmpty() ? getMaxConnections() : Integer.parseInt(threads);
+    }
+
+    /**
+     * Whether the resources created by each test are deleted in the background once it finishes.
+     * @return true if resources are cleaned up incrementally
+     */
+    public boolean useIncrementalCleanup() {
+        return Boolean.parseBoolean(params.get(INCREMENTAL_CLEANUP_PARAM));
+    }
+
+    /**
+     * Get the number of basic containers, and of non-RDF sources, created for tests before they start.
+     * @return the number of resources of each kind, 0 if tests create their own
+     */
+    public int getFixturePoolSize() {
+        final String size = params.get(FIXTURE_POOL_SIZE_PARAM);
+        return size == null || size.isEmpty() ? 0 : Integer.parseInt(size);
+    }
+
+    /**
+     * Whether requests issued in the background by tests run on virtual threads.
+     * @return true if virtual threads should be used
+     */
+    public boolean useBackgroundVirtualThreads() {
+        return Boolean.parseBoolean(params.get(BACKGROUND_VIRTUAL_THREADS_PARAM));
+    }
+
+    /**
+     * Get the number of recent requests kept for each test, and logged only if the test does not pass.
+     * @return the number of requests, 0 if every request is logged
+     */
+    public int getFailureLogSize() {
+        final String size = params.get(FAILURE_LOG_SIZE_PARAM);
+        return size == null || size.isEmpty() ? 0 : Integer.parseInt(size);
+    }
+
+    /**
+     * Get the media type requested when the suite reads RDF only to inspect its triples.
+     * @return the media type, text/turtle by default
+     */
+    public String getRdfReadFormat() {
+        final String format = params.get(RDF_READ_FORMAT_PARAM);
+        return format == null || format.isEmpty() ? "text/turtle" : format;
+    }
 }
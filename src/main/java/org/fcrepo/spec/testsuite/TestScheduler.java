@@ -0,0 +1,159 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+/**
+ * Coordinates test methods running in parallel, based on the {@link SharedState} they declare.
+ *
+ * Tests declaring no shared state run concurrently with everything. Tests declaring named state hold a lock for
+ * each name while they run, so tests touching the same state run one after another, while tests touching other
+ * state carry on alongside them. Tests declaring unnamed shared state run with nothing else at all.
+ *
+ * As a method interceptor, the scheduler also sorts the tests declaring shared state by class and method name,
+ * keeping the slots they held in the run order. Since the locks are fair, conflicting tests then run in the same
+ * order on every run.
+ *
+ * @author dbernstein
+ */
+public class TestScheduler implements IMethodInterceptor {
+
+    private static final ReadWriteLock EXCLUSIVE = new ReentrantReadWriteLock(true);
+
+    private static final Map<String, Lock> LOCKS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Deque<Lock>> HELD = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Block until the given test may run on the current thread.
+     *
+     * @param testClass the class of the test about to run
+     * @param method the test method about to run
+     */
+    public static void enter(final Class<?> testClass, final Method method) {
+        final SortedSet<String> state = getSharedState(testClass, method);
+        if (state == null) {
+            acquire(EXCLUSIVE.writeLock());
+            return;
+        }
+        acquire(EXCLUSIVE.readLock());
+        // Always lock in the same (sorted) order to avoid deadlocks
+        for (final String name : state) {
+            acquire(LOCKS.computeIfAbsent(name, k -> new ReentrantLock(true)));
+        }
+    }
+
+    /**
+     * Allow other tests to run once the test on the current thread has finished.
+     */
+    public static void exit() {
+        final Deque<Lock> held = HELD.get();
+        while (!held.isEmpty()) {
+            held.pop().unlock();
+        }
+    }
+
+    /**
+     * Run work which must not overlap with tests declaring unnamed shared state, such as the background cleanup of
+     * finished tests, whose requests those tests could otherwise observe. The work waits for such a test to finish,
+     * and such a test waits for the work.
+     *
+     * @param work the work, run on the current thread
+     */
+    public static void runAlongsideTests(final Runnable work) {
+        final Lock lock = EXCLUSIVE.readLock();
+        lock.lock();
+        try {
+            work.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void acquire(final Lock lock) {
+        lock.lock();
+        HELD.get().push(lock);
+    }
+
+    /**
+     * Get the names of the shared state declared for a test.
+     *
+     * @param testClass the class of the test
+     * @param method the test method
+     * @return the names, empty if none is declared, or null if the test declared unnamed shared state
+     */
+    private static SortedSet<String> getSharedState(final Class<?> testClass, final Method method) {
+        final SortedSet<String> state = new TreeSet<>();
+        for (final SharedState declared : new SharedState[] {testClass.getAnnotation(SharedState.class),
+                                                             method.getAnnotation(SharedState.class)}) {
+            if (declared == null) {
+                continue;
+            }
+            if (declared.value().length == 0) {
+                return null;
+            }
+            for (final String name : declared.value()) {
+                state.add(SharedState.TEST_CONTAINER.equals(name) ? name + ":" + testClass.getName() : name);
+            }
+        }
+        return state;
+    }
+
+    private static boolean declaresSharedState(final IMethodInstance instance) {
+        final SortedSet<String> state = getSharedState(instance.getMethod().getRealClass(),
+                                                       instance.getMethod().getConstructorOrMethod().getMethod());
+        return state == null || !state.isEmpty();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(final List<IMethodInstance> methods, final ITestContext context) {
+        final List<IMethodInstance> ordered = new ArrayList<>(methods);
+        final List<Integer> slots = new ArrayList<>();
+        final List<IMethodInstance> conflicting = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (declaresSharedState(ordered.get(i))) {
+                slots.add(i);
+                conflicting.add(ordered.get(i));
+            }
+        }
+        conflicting.sort(Comparator.comparing((IMethodInstance m) -> m.getMethod().getRealClass().getName())
+                                   .thenComparing(m -> m.getMethod().getMethodName()));
+        for (int i = 0; i < slots.size(); i++) {
+            ordered.set(slots.get(i), conflicting.get(i));
+        }
+        return ordered;
+    }
+}
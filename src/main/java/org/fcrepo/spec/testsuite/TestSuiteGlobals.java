@@ -22,12 +22,13 @@ import static org.fcrepo.spec.testsuite.Constants.SLUG;
 import static org.fcrepo.spec.testsuite.authn.AuthUtil.auth;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
@@ -52,6 +53,10 @@ public abstract class TestSuiteGlobals {
 
     private static ResourceCleanupManager cleanupManager;
 
+    private static final ThreadLocalPrintStream testLog = new ThreadLocalPrintStream();
+
+    private static ExecutionLog executionLog;
+
     static {
         initialize();
     }
@@ -61,11 +66,19 @@ public abstract class TestSuiteGlobals {
      *
      */
     public static String containerTestSuite() {
-        cleanupManager = new ResourceCleanupManager();
-
         final TestParameters params = TestParameters.get();
         final String rootUrl = params.getRootUrl();
         final String name = outputName + "container" + today();
+
+        try {
+            final CleanupJournal journal =
+                new CleanupJournal(new File(reportOutputDirectory, name + CleanupJournal.SUFFIX));
+            // Keep what was recorded when exiting early
+            Runtime.getRuntime().addShutdownHook(new Thread(journal::close));
+            cleanupManager = new ResourceCleanupManager(journal, params.useIncrementalCleanup());
+        } catch (final IOException ex) {
+            throw new RuntimeException(ex);
+        }
         final String base = rootUrl.endsWith("/") ? rootUrl : rootUrl + '/';
         String containerUrl = base + name;
         containerUrl = containerUrl.replaceAll("(?<!http:)//", "/");
@@ -83,6 +96,26 @@ public abstract class TestSuiteGlobals {
         return containerUrl;
     }
 
+    /**
+     * Create a container within the test suite container to hold the resources of a single test class, so that
+     * test classes do not interfere with each other when run in parallel.
+     *
+     * @param testClass the test class
+     * @return the url of the new container
+     */
+    public static String containerTestClass(final Class<?> testClass) {
+        final TestParameters params = TestParameters.get();
+        final Response res = auth(RestAssured.given(), params.getRootControllerUserWebId())
+                                        .contentType("text/turtle")
+                                        .header("Link", BASIC_CONTAINER_LINK_HEADER)
+                                        .header(SLUG, testClass.getSimpleName())
+                                        .when()
+                                        .post(params.getTestContainerUrl());
+        res.then().statusCode(201);
+        registerTestResource(res);
+        return res.getHeader("Location");
+    }
+
     private static void initialize() {
         //create output directory if does not exist
         final File dir = new File(TestSuiteGlobals.reportOutputDirectory);
@@ -96,6 +129,14 @@ public abstract class TestSuiteGlobals {
         if (f.exists()) {
             f.delete();
         }
+
+        try {
+            executionLog = new ExecutionLog(f);
+            // Keep what was logged when exiting early
+            Runtime.getRuntime().addShutdownHook(new Thread(executionLog::close));
+        } catch (final IOException ex) {
+            throw new RuntimeException(ex);
+        }
     }
 
     /**
@@ -111,6 +152,41 @@ public abstract class TestSuiteGlobals {
         return response;
     }
 
+    /**
+     * Register the URI of a Fedora resource created in the given response, within a container which is itself
+     * registered, so that it is deleted along with its container when the server allows.
+     *
+     * @param response response from which to register resource
+     * @return the response
+     */
+    public static Response registerContainedTestResource(final Response response) {
+        if (response != null && response.statusCode() == 201) {
+            cleanupManager.registerContainedResource(response.getHeader("Location"));
+        }
+        return response;
+    }
+
+    /**
+     * Creates Fedora resources shared by several tests, which are only deleted at the end of the run.
+     *
+     * @param create creates the resources, registering them for cleanup
+     * @param <T> the type of the result
+     * @return the result of the creation
+     */
+    public static <T> T createSharedTestResources(final Supplier<T> create) {
+        return cleanupManager.createShared(create);
+    }
+
+    /**
+     * Deletes in the background the Fedora resources registered by a test which has finished, when resources are
+     * cleaned up incrementally.
+     *
+     * @param log the log stream of the test
+     */
+    public static void cleanupTestResources(final PrintStream log) {
+        cleanupManager.cleanupTest(log);
+    }
+
     /**
      * Deletes all Fedora resources registered for cleanup from testing.
      */
@@ -155,17 +231,28 @@ public abstract class TestSuiteGlobals {
     }
 
     /**
+     * The execution log of the test running on the current thread, shared by all test classes.
+     *
+     * @return the test log
+     */
+    public static ThreadLocalPrintStream testLog() {
+        return testLog;
+    }
+
+    /**
+     * Open a stream on the execution log. Its output is written to the log as one block once it is closed.
+     *
      * @return ps
      */
     public static PrintStream logFile() {
-        try {
-            final FileOutputStream fos = new FileOutputStream(new File(TestSuiteGlobals.reportOutputDirectory + "/" +
-                                                                       TestSuiteGlobals.outputName + "-execution.log"),
-                                                              true);
-            return new PrintStream(fos);
-        } catch (final Exception ex) {
-            throw new RuntimeException(ex);
-        }
+        return executionLog.open();
+    }
+
+    /**
+     * Write out everything logged so far and close the execution log.
+     */
+    public static void closeLogFile() {
+        executionLog.close();
     }
 
     /**
@@ -0,0 +1,146 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.function.Supplier;
+
+/**
+ * A PrintStream which routes everything written to it to a stream bound to the current thread.
+ * This allows a single test class instance to log from several test methods running in parallel.
+ * Output written from a thread with no bound stream is discarded, and output written while buffering is held back
+ * until the buffered work finishes.
+ *
+ * @author dbernstein
+ */
+public class ThreadLocalPrintStream extends PrintStream {
+
+    private final ThreadLocal<PrintStream> target;
+
+    private final ThreadLocal<ByteArrayOutputStream> buffer;
+
+    /**
+     * Default constructor
+     */
+    public ThreadLocalPrintStream() {
+        this(new ThreadLocal<>(), new ThreadLocal<>());
+    }
+
+    private ThreadLocalPrintStream(final ThreadLocal<PrintStream> target,
+                                   final ThreadLocal<ByteArrayOutputStream> buffer) {
+        super(new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                final OutputStream out = buffer.get() != null ? buffer.get() : target.get();
+                if (out != null) {
+                    out.write(b);
+                }
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                final OutputStream out = buffer.get() != null ? buffer.get() : target.get();
+                if (out != null) {
+                    out.write(b, off, len);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                final PrintStream out = target.get();
+                if (out != null && buffer.get() == null) {
+                    out.flush();
+                }
+            }
+        });
+        this.target = target;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Bind a stream to the current thread.
+     *
+     * @param out the stream which will receive output written from the current thread, or null to discard it
+     */
+    public void bind(final PrintStream out) {
+        if (out == null) {
+            target.remove();
+        } else {
+            target.set(out);
+        }
+    }
+
+    /**
+     * Run work on the current thread with a stream bound, holding back its output and appending it to the stream as
+     * one block once the work finishes. Output of work running concurrently for the same stream, such as the
+     * several lines logged for each request, then does not interleave.
+     *
+     * @param out the stream which will receive the output of the work
+     * @param work the work
+     * @param <T> the type of the result
+     * @return the result of the work
+     */
+    public <T> T buffered(final PrintStream out, final Supplier<T> work) {
+        final ByteArrayOutputStream held = new ByteArrayOutputStream();
+        target.set(out);
+        buffer.set(held);
+        try {
+            return work.get();
+        } finally {
+            flush();
+            buffer.remove();
+            target.remove();
+            if (out != null) {
+                // A single write, which PrintStream does not interleave with others
+                out.write(held.toByteArray(), 0, held.size());
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Get the stream bound to the current thread.
+     *
+     * @return the bound stream, or null if there is none
+     */
+    public PrintStream bound() {
+        return target.get();
+    }
+
+    /**
+     * Unbind and close the stream bound to the current thread, if any.
+     */
+    public void unbind() {
+        final PrintStream out = target.get();
+        target.remove();
+        if (out != null) {
+            out.close();
+        }
+    }
+
+    /**
+     * Closing the shared stream is a no-op; use {@link #unbind()} to close the current thread's stream.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -27,6 +27,7 @@ import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 
 /**
  * @author Daniel Bernstein
@@ -34,11 +35,7 @@ import org.fcrepo.spec.testsuite.AbstractTest;
 public class AbstractAuthzTest extends AbstractTest {
 
     protected String filterFileAndConvertToString(final String fileName, final Map<String, String> params) {
-        String str = fileToString("/acls/" + fileName);
-        for (String key : params.keySet()) {
-            str = str.replace("${" + key + "}", params.get(key));
-        }
-        return str;
+        return AclTemplates.render(fileName, params);
     }
 
     protected String getAclAsString(final String fileName, final String resourceUri, final String user) {
@@ -86,20 +83,7 @@ public class AbstractAuthzTest extends AbstractTest {
     }
 
     protected boolean isClientAclLinkingSupported() {
-        //create a resource to be used for the acl link
-        final Response aclResponse = createBasicContainer(uri, "test");
-        final String aclUri = getLocation(aclResponse);
-
-        //PUT the new Resource
-        final String aclLinkValue = "<" + aclUri + ">; rel=\"acl\"";
-        final Response resource = doPutUnverified(uri, Headers.headers(new Header("Link", aclLinkValue)), "test body");
-
-        final int statusCode = resource.getStatusCode();
-        if (statusCode >= 400) {
-            return false;
-        } else {
-            return successRange().matches(statusCode);
-        }
+        return ServerCapabilities.get().supportsClientAclLinking();
     }
 
 }
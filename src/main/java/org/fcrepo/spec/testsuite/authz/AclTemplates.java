@@ -0,0 +1,177 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite.authz;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * The ACL templates under /acls, each split once into its literal text and ${name} placeholders, so that an ACL
+ * body is rendered in a single pass without reading the template again.
+ *
+ * @author dbernstein
+ */
+public final class AclTemplates {
+
+    private static final String DIRECTORY = "acls";
+
+    private static final String SUFFIX = ".ttl";
+
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    private AclTemplates() {
+    }
+
+    /**
+     * Compile every template on the classpath.
+     *
+     * @return the number of templates
+     */
+    public static int preload() {
+        final URL url = AclTemplates.class.getResource("/" + DIRECTORY);
+        if (url == null) {
+            throw new IllegalStateException("No /" + DIRECTORY + " directory on the classpath");
+        }
+        for (final String name : listTemplates(url)) {
+            get(name);
+        }
+        return TEMPLATES.size();
+    }
+
+    /**
+     * Render a template. Placeholders without a parameter are left as they are.
+     *
+     * @param fileName the name of the template under /acls
+     * @param params the values of the placeholders
+     * @return the ACL body
+     */
+    public static String render(final String fileName, final Map<String, String> params) {
+        return get(fileName).render(params);
+    }
+
+    private static Template get(final String fileName) {
+        return TEMPLATES.computeIfAbsent(fileName, AclTemplates::load);
+    }
+
+    private static Template load(final String fileName) {
+        try (InputStream is = AclTemplates.class.getResourceAsStream("/" + DIRECTORY + "/" + fileName)) {
+            if (is == null) {
+                throw new RuntimeException("No such ACL template: " + fileName);
+            }
+            return Template.compile(IOUtils.toString(is, "UTF-8"));
+        } catch (final IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static List<String> listTemplates(final URL url) {
+        final List<String> names = new ArrayList<>();
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                final JarURLConnection connection = (JarURLConnection) url.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jar = connection.getJarFile()) {
+                    final Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        final String entry = entries.nextElement().getName();
+                        if (entry.startsWith(DIRECTORY + "/") && entry.endsWith(SUFFIX)) {
+                            names.add(entry.substring(DIRECTORY.length() + 1));
+                        }
+                    }
+                }
+            } else {
+                try (Stream<Path> files = Files.list(Paths.get(url.toURI()))) {
+                    files.map(f -> f.getFileName().toString()).filter(n -> n.endsWith(SUFFIX)).forEach(names::add);
+                }
+            }
+        } catch (final IOException | URISyntaxException ex) {
+            throw new RuntimeException(ex);
+        }
+        return names;
+    }
+
+    /**
+     * A template as alternating literal text and placeholder names, starting and ending with literal text.
+     */
+    private static class Template {
+
+        private final String[] literals;
+
+        private final String[] names;
+
+        private final int literalLength;
+
+        private Template(final String[] literals, final String[] names) {
+            this.literals = literals;
+            this.names = names;
+            int length = 0;
+            for (final String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        private static Template compile(final String text) {
+            final List<String> literals = new ArrayList<>();
+            final List<String> names = new ArrayList<>();
+            int from = 0;
+            int start;
+            while ((start = text.indexOf("${", from)) >= 0) {
+                final int end = text.indexOf('}', start + 2);
+                if (end < 0) {
+                    break;
+                }
+                literals.add(text.substring(from, start));
+                names.add(text.substring(start + 2, end));
+                from = end + 1;
+            }
+            literals.add(text.substring(from));
+            return new Template(literals.toArray(new String[0]), names.toArray(new String[0]));
+        }
+
+        private String render(final Map<String, String> params) {
+            final StringBuilder body = new StringBuilder(literalLength + names.length * 64);
+            for (int i = 0; i < names.length; i++) {
+                body.append(literals[i]);
+                final String value = params.get(names[i]);
+                if (value == null) {
+                    body.append("${").append(names[i]).append('}');
+                } else {
+                    body.append(value);
+                }
+            }
+            return body.append(literals[names.length]).toString();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.fcrepo.spec.testsuite.authz;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
@@ -28,6 +29,7 @@ import org.testng.annotations.Test;
  * @author dbernstein
  * @since 2018-09-19
  */
+@SharedState(SharedState.ACL)
 public class WebACAccessToClass extends AbstractAuthzTest {
 
     /**
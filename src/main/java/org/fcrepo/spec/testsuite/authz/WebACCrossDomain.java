@@ -25,6 +25,7 @@ import java.util.Map;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
@@ -39,6 +40,7 @@ public class WebACCrossDomain extends AbstractAuthzTest {
      * 5.5-A - Restrict ACLs to local resources
      */
     @Test(groups = {"MAY"})
+    @SharedState(SharedState.TEST_CONTAINER)
     public void restrictAclToLocal() {
         final TestInfo info = setupTest("5.5-A",
                                         "Implementations may restrict support for ACLs to local resources.",
@@ -69,6 +71,7 @@ public class WebACCrossDomain extends AbstractAuthzTest {
      * 5.5-B - Rejected requests to have 4xx range status code
      */
     @Test(groups = {"MUST"})
+    @SharedState(SharedState.TEST_CONTAINER)
     public void rejectRemoteAclStatus() {
         final TestInfo info = setupTest("5.5-B",
                                         "If an implementation chooses to reject requests concerning remote ACLs, it " +
@@ -87,6 +90,7 @@ public class WebACCrossDomain extends AbstractAuthzTest {
      * 5.5-C - Rejected requests to have constrainedBy Link header
      */
     @Test(groups = {"MUST"})
+    @SharedState(SharedState.TEST_CONTAINER)
     public void rejectRemoteAclConstraint() {
         final TestInfo info = setupTest("5.5-C",
                                         "If an implementation chooses to reject requests concerning remote ACLs, it " +
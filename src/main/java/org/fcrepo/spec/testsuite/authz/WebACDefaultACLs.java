@@ -24,6 +24,7 @@ import java.net.URI;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.annotations.Test;
 
@@ -39,6 +40,7 @@ public class WebACDefaultACLs extends AbstractAuthzTest {
      * relationships linking controlled resources
      */
     @Test(groups = {"MUST"})
+    @SharedState(SharedState.ACL)
     public void aclInheritanceMustUseLdpContainmentRelationships() {
         final TestInfo info =
             setupTest("5.9-A", "Inheritance of ACLs in Fedora implementations is defined by the [SOLIDWEBAC]" +
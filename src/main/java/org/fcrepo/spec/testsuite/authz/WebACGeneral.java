@@ -20,10 +20,12 @@ package org.fcrepo.spec.testsuite.authz;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.annotations.Test;
 
@@ -31,6 +33,7 @@ import org.testng.annotations.Test;
  * @author awoods
  * @since 2018-07-14
  */
+@SharedState(SharedState.ACL)
 public class WebACGeneral extends AbstractAuthzTest {
 
 
@@ -84,12 +87,12 @@ public class WebACGeneral extends AbstractAuthzTest {
         final String groupListUri = joinLocation(testContainerUri, "agent-group");
         final Map<String, String> params = new HashMap<>();
         params.put("user", this.permissionlessUserWebId);
-        final Response response = doPutUnverified(groupListUri,
-                                                  new Headers(new Header("Content-Type", "text/turtle")),
-                                                  filterFileAndConvertToString("agent-group.ttl", params));
-        response.then().statusCode(201);
+        final CompletableFuture<Response> response = async(() -> doPutUnverified(
+            groupListUri, new Headers(new Header("Content-Type", "text/turtle")),
+            filterFileAndConvertToString("agent-group.ttl", params)));
 
         final String resourceUri = createResource(testContainerUri, "group-test");
+        join(response).then().statusCode(201);
         //create a resource
         final Map<String, String> aclParams = new HashMap<>();
         aclParams.put("resource", resourceUri);
@@ -116,13 +119,12 @@ public class WebACGeneral extends AbstractAuthzTest {
         final String groupListUri = joinLocation(testContainerUri, "agent-group");
         final Map<String, String> params = new HashMap<>();
         params.put("user", this.permissionlessUserWebId);
-        final Response response = doPutUnverified(groupListUri,
-                                                  new Headers(new Header("Content-Type", "text/turtle")),
-                                                  filterFileAndConvertToString("agent-group-using-hash-uris.ttl",
-                                                                               params));
-        response.then().statusCode(201);
+        final CompletableFuture<Response> response = async(() -> doPutUnverified(
+            groupListUri, new Headers(new Header("Content-Type", "text/turtle")),
+            filterFileAndConvertToString("agent-group-using-hash-uris.ttl", params)));
 
         final String resourceUri = createResource(testContainerUri, "group-test");
+        join(response).then().statusCode(201);
         //create a resource
         final Map<String, String> aclParams = new HashMap<>();
         aclParams.put("resource", resourceUri);
@@ -178,8 +180,10 @@ public class WebACGeneral extends AbstractAuthzTest {
                                         SPEC_BASE_URL + "#resource-authorization", ps);
 
         final String parentResource = createResource(uri, info.getId());
-        final String child1resource = createResource(parentResource, "child1");
-        final String child2resource = createResource(parentResource, "child2");
+        final CompletableFuture<String> child1 = async(() -> createResource(parentResource, "child1"));
+        final CompletableFuture<String> child2 = async(() -> createResource(parentResource, "child2"));
+        final String child1resource = join(child1);
+        final String child2resource = join(child2);
 
         final Map<String, String> params = new HashMap<>();
         params.put("accessTo", child1resource);
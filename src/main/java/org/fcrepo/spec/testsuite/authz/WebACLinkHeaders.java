@@ -21,6 +21,7 @@ import static org.testng.AssertJUnit.assertEquals;
 
 import java.net.URI;
 
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.annotations.Test;
 
@@ -35,6 +36,7 @@ public class WebACLinkHeaders extends AbstractAuthzTest {
      * 5.3-A - Link header points to existing ACL
      */
     @Test(groups = {"MUST"})
+    @SharedState(SharedState.ACL)
     public void linkToAclExisting() {
         final TestInfo info = setupTest("5.3-A",
                                         "A conforming server must advertise the individual resource ACL for every " +
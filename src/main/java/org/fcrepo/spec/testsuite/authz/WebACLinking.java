@@ -21,6 +21,7 @@ import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
@@ -35,6 +36,7 @@ public class WebACLinking extends AbstractTest {
      * 5.4-A - Client-provided Link to preferred ACL on resource creation
      */
     @Test(groups = {"MAY"})
+    @SharedState(SharedState.TEST_CONTAINER)
     public void linkToAclOnCreation() {
         final TestInfo info = setupTest("5.4-A",
                                         "A client HTTP POST or PUT request to create a new LDPR may include a " +
@@ -21,6 +21,7 @@ import static org.fcrepo.spec.testsuite.Constants.APPLICATION_SPARQL_UPDATE;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 
 import org.testng.SkipException;
@@ -31,6 +32,7 @@ import org.testng.annotations.Test;
  * @author dbernstein
  * @since 2018-07-14
  */
+@SharedState(SharedState.ACL)
 public class WebACModes extends AbstractAuthzTest {
 
     /**
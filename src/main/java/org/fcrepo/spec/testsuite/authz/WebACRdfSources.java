@@ -22,6 +22,7 @@ import static org.fcrepo.spec.testsuite.Constants.RDF_SOURCE_LINK_HEADER;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.annotations.Test;
 
@@ -30,6 +31,7 @@ import org.testng.annotations.Test;
  * @author dbernstein
  * @since 2018-07-15
  */
+@SharedState(SharedState.ACL)
 public class WebACRdfSources extends AbstractAuthzTest {
 
     /**
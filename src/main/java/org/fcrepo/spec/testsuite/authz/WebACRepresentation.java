@@ -23,6 +23,7 @@ import java.util.Map;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.annotations.Test;
 
@@ -30,6 +31,7 @@ import org.testng.annotations.Test;
  * @author awoods
  * @since 2018-07-15
  */
+@SharedState(SharedState.ACL)
 public class WebACRepresentation extends AbstractAuthzTest {
 
     /**
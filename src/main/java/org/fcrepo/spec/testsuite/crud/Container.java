@@ -20,26 +20,19 @@ package org.fcrepo.spec.testsuite.crud;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
-import org.apache.commons.io.IOUtils;
-import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ResourceFactory;
-import org.apache.jena.sparql.core.DatasetGraph;
-import org.apache.jena.sparql.core.DatasetImpl;
 import org.fcrepo.spec.testsuite.AbstractTest;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.Assert;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
 
-import static org.apache.jena.graph.Node.ANY;
-import static org.apache.jena.graph.NodeFactory.createURI;
-import static org.apache.jena.rdf.model.ModelFactory.createDefaultModel;
 import static org.fcrepo.spec.testsuite.Constants.DIRECT_CONTAINER_BODY;
 import static org.fcrepo.spec.testsuite.Constants.INDIRECT_CONTAINER_BODY;
 import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.fail;
 
-import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Jorge Abrego, Fernando Cardoza, dbernstein
@@ -62,6 +55,12 @@ public class Container extends AbstractTest {
     private static final String INDIRECT_CONTAINER_SPEC_LINK = SPEC_BASE_URL + "#ldpic";
     private static final String CONTAINER_CONSTRAINTS_SPEC_LINK = SPEC_BASE_URL + "#constraints-document";
 
+    private static final String HAS_TRIPLE = "ASK { ?s ?p ?o }";
+    // Only the subject and predicate are bound, so any object matches
+    private static final String HAS_PREDICATE = "ASK { ?s ?p [] }";
+    private static final String HAS_MEMBER_RELATION = "PREFIX ldp: <http://www.w3.org/ns/ldp#> " +
+        "ASK { ?s ?p ?o FILTER (?p IN (ldp:hasMemberRelation, ldp:isMemberOfRelation)) }";
+
     /**
      * 3.1.1-A-1
      */
@@ -152,7 +151,7 @@ public class Container extends AbstractTest {
         }
 
         // Only omit, not include, can guarantee the omission of specified triples.
-        final Response resP = doGet(getLocation(container),
+        final Response resP = doGetRdf(getLocation(container),
                 new Header("Prefer", "return=representation; " +
                                      "omit=\"http://www.w3.org/ns/ldp#PreferMembership " +
                                      "http://www.w3.org/ns/ldp#PreferMinimalContainer\""));
@@ -208,7 +207,7 @@ public class Container extends AbstractTest {
             final Response directMember = createBasicContainer(getLocation(direct), "member");
 
             // 1. Expect two ldp:contains triples for basic GET
-            final Response resP = doGet(getLocation(container));
+            final Response resP = doGetRdf(getLocation(container));
 
             ps.append(resP.getStatusLine()).append("\n");
             final Headers headers = resP.getHeaders();
@@ -236,7 +235,7 @@ public class Container extends AbstractTest {
             resP.then().body(new TripleMatcher(tripleContained));
 
             // 2. Expect one ldp:contains triple for GET : PreferContainment
-            final Response responseContainment = doGet(getLocation(container),
+            final Response responseContainment = doGetRdf(getLocation(container),
                     new Header("Prefer",
                             "return=representation; include=\"http://www.w3.org/ns/ldp#PreferContainment\""));
 
@@ -247,7 +246,7 @@ public class Container extends AbstractTest {
             responseContainment.then().body(new TripleMatcher(tripleMember, false));
 
             // 3. Expect one ldp:contains triple for GET : PreferMembership
-            final Response responseMembership = doGet(getLocation(container),
+            final Response responseMembership = doGetRdf(getLocation(container),
                     new Header("Prefer",
                             "return=representation; include=\"http://www.w3.org/ns/ldp#PreferMembership\""));
 
@@ -294,10 +293,10 @@ public class Container extends AbstractTest {
         }
 
         // Only omit can guarantee the absence of certain triples.
-        final Response resP = doGet(getLocation(container),
-                                    new Header("Prefer", "return=representation; "
-                                               + "omit=\"http://www.w3.org/ns/ldp#PreferContainment "
-                                               + "http://www.w3.org/ns/ldp#PreferMembership\""));
+        final Response resP = doGetRdf(getLocation(container),
+                                       new Header("Prefer", "return=representation; "
+                                                  + "omit=\"http://www.w3.org/ns/ldp#PreferContainment "
+                                                  + "http://www.w3.org/ns/ldp#PreferMembership\""));
 
         ps.append(resP.getStatusLine()).append("\n");
         final Headers headers = resP.getHeaders();
@@ -337,12 +336,7 @@ public class Container extends AbstractTest {
 
     private boolean testForPresenceOfTrip(final Response response, final String subjectUri,
                                           final String predicateUri, final String objectUri, final boolean present) {
-        // Verify absence of member triple in response body
-        final org.apache.jena.rdf.model.Statement tripleMember = ResourceFactory.createStatement(
-            ResourceFactory.createResource(subjectUri),
-            ResourceFactory.createProperty(predicateUri),
-            ResourceFactory.createResource(objectUri));
-        return new TripleMatcher(tripleMember, present).matches(response.getBody().asString());
+        return ask(HAS_TRIPLE, response, bindUris("s", subjectUri, "p", predicateUri, "o", objectUri)) == present;
     }
 
     private void confirmPresenceOrAbsenceOfPredicateInResponse(final Response response, final String subjectUri,
@@ -358,9 +352,7 @@ public class Container extends AbstractTest {
 
     private boolean testForPresenceOfPred(final Response response, final String subjectUri,
             final String predicateUri, final boolean present) {
-        // Verify absence of a predicate in the response body
-        return new PredicateMatcher(ResourceFactory.createResource(subjectUri),
-                ResourceFactory.createProperty(predicateUri), present).matches(response.getBody().asString());
+        return ask(HAS_PREDICATE, response, bindUris("s", subjectUri, "p", predicateUri)) == present;
     }
 
     /**
@@ -384,7 +376,7 @@ public class Container extends AbstractTest {
                             + "ldp:hasMemberRelation <ldp:member> .";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(directContainerResource), directContainerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(directContainerResource), directContainerResource,
                                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, membershipResource, true);
     }
 
@@ -403,12 +395,9 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        final String responseBody = doGet(getLocation(directContainer)).getBody().asString();
-        try (CloseableDataset dataset = parseTriples(IOUtils.toInputStream(responseBody))) {
-            final DatasetGraph graph = dataset.asDatasetGraph();
-            assertTrue(graph.contains(ANY, createURI(directContainerResource),
-                                      createURI(LDP_MEMBERSHIP_RESOURCE_PREDICATE), ANY));
-        }
+        assertAsk("The " + LDP_MEMBERSHIP_RESOURCE_PREDICATE + " predicate was expected but not found",
+                  HAS_PREDICATE, doGetRdf(directContainerResource),
+                  bindUris("s", directContainerResource, "p", LDP_MEMBERSHIP_RESOURCE_PREDICATE));
     }
 
     /**
@@ -427,22 +416,10 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(directContainerResource), directContainerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(directContainerResource), directContainerResource,
                 LDP_MEMBERSHIP_RESOURCE_PREDICATE, directContainerResource, true);
     }
 
-    private CloseableDataset parseTriples(final InputStream content) {
-        final Model model = createDefaultModel();
-        model.read(content, "", "text/turtle");
-        return new CloseableDataset(model);
-    }
-
-    private class CloseableDataset extends DatasetImpl implements AutoCloseable {
-        private CloseableDataset(final Model model) {
-            super(model);
-        }
-    }
-
     /**
      * 3.1.2-D
      */
@@ -458,8 +435,10 @@ public class Container extends AbstractTest {
         //throw skip exception if direct containers not supported
         skipIfDirectContainersNotSupported();
 
-        final String membershipResource1 = getLocation(doPost(uri));
-        final String membershipResource2 = getLocation(doPost(uri));
+        final CompletableFuture<Response> membership1 = doPostAsync(uri);
+        final CompletableFuture<Response> membership2 = doPostAsync(uri);
+        final String membershipResource1 = getLocation(join(membership1));
+        final String membershipResource2 = getLocation(join(membership2));
 
         final Response response = createDirectContainer(uri, DIRECT_CONTAINER_BODY
             .replace("%membershipResource%", membershipResource1));
@@ -472,7 +451,7 @@ public class Container extends AbstractTest {
             throw new SkipException("This implementation does not support PUT updates on ldp:membershipResource");
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, membershipResource2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
@@ -493,8 +472,10 @@ public class Container extends AbstractTest {
         //throw skip exception if direct containers not supported
         skipIfDirectContainersNotSupported();
 
-        final String membershipResource1 = getLocation(doPost(uri));
-        final String membershipResource2 = getLocation(doPost(uri));
+        final CompletableFuture<Response> membership1 = doPostAsync(uri);
+        final CompletableFuture<Response> membership2 = doPostAsync(uri);
+        final String membershipResource1 = getLocation(join(membership1));
+        final String membershipResource2 = getLocation(join(membership2));
 
         final Response response = createDirectContainer(uri, DIRECT_CONTAINER_BODY
             .replace("%membershipResource%", membershipResource1));
@@ -513,7 +494,7 @@ public class Container extends AbstractTest {
             throw new SkipException("This implementation does not support PATCH updates on ldp:membershipResource");
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, membershipResource2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
@@ -543,7 +524,7 @@ public class Container extends AbstractTest {
                 + "<" + LDP_MEMBERSHIP_RESOURCE_PREDICATE + ">" + " <" + membershipResource + "> .";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(directContainerResource), directContainerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(directContainerResource), directContainerResource,
                                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate, true);
     }
 
@@ -570,7 +551,7 @@ public class Container extends AbstractTest {
                 + "<" + LDP_MEMBERSHIP_RESOURCE_PREDICATE + ">" + " <" + membershipResource + "> .";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(directContainerResource), directContainerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(directContainerResource), directContainerResource,
                                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberPredicate, true);
     }
 
@@ -590,17 +571,9 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        final String responseBody = doGet(getLocation(directContainer)).getBody().asString();
-        try (CloseableDataset dataset = parseTriples(IOUtils.toInputStream(responseBody))) {
-            final DatasetGraph graph = dataset.asDatasetGraph();
-            if (!graph
-                .contains(ANY, createURI(directContainerResource), createURI(LDP_HAS_MEMBER_RELATION_PREDICATE), ANY) &&
-                !graph.contains(ANY, createURI(directContainerResource), createURI(LDP_IS_MEMBER_OF_RELATION_PREDICATE),
-                                ANY)) {
-                fail("Neither the " + LDP_HAS_MEMBER_RELATION_PREDICATE + " nor the " +
-                     LDP_IS_MEMBER_OF_RELATION_PREDICATE + " predicate found");
-            }
-        }
+        assertAsk("Neither the " + LDP_HAS_MEMBER_RELATION_PREDICATE + " nor the " +
+                  LDP_IS_MEMBER_OF_RELATION_PREDICATE + " predicate found",
+                  HAS_MEMBER_RELATION, doGetRdf(directContainerResource), bindUris("s", directContainerResource));
     }
 
     /**
@@ -618,7 +591,7 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response directContainer = createDirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        final Response response = doGet(getLocation(directContainer));
+        final Response response = doGetRdf(getLocation(directContainer));
         confirmPresenceOrAbsenceOfTripleInResponse(response, directContainerResource, LDP_HAS_MEMBER_RELATION_PREDICATE,
                                                    LDP_MEMBER, true);
     }
@@ -653,7 +626,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PUT updates on " + LDP_HAS_MEMBER_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
@@ -693,7 +666,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PATCH updates on " + LDP_HAS_MEMBER_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, directContainerResource,
                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate, true);
 
@@ -735,7 +708,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PUT updates on " + LDP_IS_MEMBER_OF_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         if (!testForPresenceOfTrip(getUpdatedResource, directContainerResource,
                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberOfPredicate2, true)) {
             throw new SkipException(
@@ -783,7 +756,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PATCH updates on " + LDP_IS_MEMBER_OF_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(directContainerResource);
+        final Response getUpdatedResource = doGetRdf(directContainerResource);
         if (!testForPresenceOfTrip(getUpdatedResource, directContainerResource,
                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberOfPredicate2, true)) {
             throw new SkipException(
@@ -819,7 +792,7 @@ public class Container extends AbstractTest {
                             + "ldp:hasMemberRelation <ldp:member> .";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(containerResource), containerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(containerResource), containerResource,
                                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE,
                                                    containerResource + "#it", true);
     }
@@ -841,12 +814,9 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response directContainer = createIndirectContainer(uri, body);
         final String directContainerResource = getLocation(directContainer);
-        final String responseBody = doGet(getLocation(directContainer)).getBody().asString();
-        try (CloseableDataset dataset = parseTriples(IOUtils.toInputStream(responseBody))) {
-            final DatasetGraph graph = dataset.asDatasetGraph();
-            assertTrue(graph.contains(ANY, createURI(directContainerResource),
-                                      createURI(LDP_MEMBERSHIP_RESOURCE_PREDICATE), ANY));
-        }
+        assertAsk("The " + LDP_MEMBERSHIP_RESOURCE_PREDICATE + " predicate was expected but not found",
+                  HAS_PREDICATE, doGetRdf(directContainerResource),
+                  bindUris("s", directContainerResource, "p", LDP_MEMBERSHIP_RESOURCE_PREDICATE));
     }
 
     /**
@@ -867,7 +837,7 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(containerResource), containerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(containerResource), containerResource,
                                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, containerResource, true);
     }
 
@@ -886,8 +856,10 @@ public class Container extends AbstractTest {
         //throw skip exception if indirect containers not supported
         skipIfIndirectContainersNotSupported();
 
-        final String membershipResource1 = getLocation(doPost(uri));
-        final String membershipResource2 = getLocation(doPost(uri));
+        final CompletableFuture<Response> membership1 = doPostAsync(uri);
+        final CompletableFuture<Response> membership2 = doPostAsync(uri);
+        final String membershipResource1 = getLocation(join(membership1));
+        final String membershipResource2 = getLocation(join(membership2));
 
         final Response response = createIndirectContainer(uri, INDIRECT_CONTAINER_BODY
             .replace("%membershipResource%", membershipResource1));
@@ -900,7 +872,7 @@ public class Container extends AbstractTest {
             throw new SkipException("This implementation does not support PUT updates on ldp:membershipResource");
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, membershipResource2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
@@ -921,8 +893,10 @@ public class Container extends AbstractTest {
         //throw skip exception if indirect containers not supported
         skipIfIndirectContainersNotSupported();
 
-        final String membershipResource1 = getLocation(doPost(uri));
-        final String membershipResource2 = getLocation(doPost(uri));
+        final CompletableFuture<Response> membership1 = doPostAsync(uri);
+        final CompletableFuture<Response> membership2 = doPostAsync(uri);
+        final String membershipResource1 = getLocation(join(membership1));
+        final String membershipResource2 = getLocation(join(membership2));
 
         final Response response = createIndirectContainer(uri, INDIRECT_CONTAINER_BODY
             .replace("%membershipResource%", membershipResource1));
@@ -941,7 +915,7 @@ public class Container extends AbstractTest {
             throw new SkipException("This implementation does not support PATCH updates on ldp:membershipResource");
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_MEMBERSHIP_RESOURCE_PREDICATE, membershipResource2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
@@ -970,7 +944,7 @@ public class Container extends AbstractTest {
                 + "<" + LDP_MEMBERSHIP_RESOURCE_PREDICATE + ">" + " <#it> .";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(containerResource), containerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(containerResource), containerResource,
                                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate, true);
     }
 
@@ -996,7 +970,7 @@ public class Container extends AbstractTest {
                             + "<" + LDP_MEMBERSHIP_RESOURCE_PREDICATE + ">" + " <#it> .";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(containerResource), containerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(containerResource), containerResource,
                                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberPredicate, true);
     }
 
@@ -1016,16 +990,9 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        final String responseBody = doGet(getLocation(container)).getBody().asString();
-        try (CloseableDataset dataset = parseTriples(IOUtils.toInputStream(responseBody))) {
-            final DatasetGraph graph = dataset.asDatasetGraph();
-            if (!graph.contains(ANY, createURI(containerResource), createURI(LDP_HAS_MEMBER_RELATION_PREDICATE), ANY) &&
-                !graph.contains(ANY, createURI(containerResource), createURI(LDP_IS_MEMBER_OF_RELATION_PREDICATE),
-                                ANY)) {
-                fail("Neither the " + LDP_HAS_MEMBER_RELATION_PREDICATE + " nor the " +
-                     LDP_IS_MEMBER_OF_RELATION_PREDICATE + " predicate found");
-            }
-        }
+        assertAsk("Neither the " + LDP_HAS_MEMBER_RELATION_PREDICATE + " nor the " +
+                  LDP_IS_MEMBER_OF_RELATION_PREDICATE + " predicate found",
+                  HAS_MEMBER_RELATION, doGetRdf(containerResource), bindUris("s", containerResource));
     }
 
 
@@ -1044,7 +1011,7 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        final Response response = doGet(getLocation(container));
+        final Response response = doGetRdf(getLocation(container));
         confirmPresenceOrAbsenceOfTripleInResponse(response, containerResource, LDP_HAS_MEMBER_RELATION_PREDICATE,
                                                    LDP_MEMBER, true);
     }
@@ -1079,7 +1046,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PUT updates on " + LDP_HAS_MEMBER_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
@@ -1119,7 +1086,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PATCH updates on " + LDP_HAS_MEMBER_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_HAS_MEMBER_RELATION_PREDICATE, hasMemberPredicate, true);
 
@@ -1161,7 +1128,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PUT updates on " + LDP_IS_MEMBER_OF_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         if (!testForPresenceOfTrip(getUpdatedResource, containerResource,
                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberOfPredicate2, true)) {
             throw new SkipException(
@@ -1209,7 +1176,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PATCH updates on " + LDP_IS_MEMBER_OF_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         if (!testForPresenceOfTrip(getUpdatedResource, containerResource,
                                    LDP_IS_MEMBER_OF_RELATION_PREDICATE, isMemberOfPredicate2, true)) {
             throw new SkipException(
@@ -1245,7 +1212,7 @@ public class Container extends AbstractTest {
 
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        confirmPresenceOrAbsenceOfTripleInResponse(doGet(containerResource), containerResource,
+        confirmPresenceOrAbsenceOfTripleInResponse(doGetRdf(containerResource), containerResource,
                                                    LDP_INSERTED_CONTENT_RELATION_PREDICATE, memberSubject, true);
     }
 
@@ -1266,14 +1233,9 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        final String responseBody = doGet(getLocation(container)).getBody().asString();
-        try (CloseableDataset dataset = parseTriples(IOUtils.toInputStream(responseBody))) {
-            final DatasetGraph graph = dataset.asDatasetGraph();
-            if (!graph
-                .contains(ANY, createURI(containerResource), createURI(LDP_INSERTED_CONTENT_RELATION_PREDICATE), ANY)) {
-                fail("The " + LDP_INSERTED_CONTENT_RELATION_PREDICATE + " predicate was expected but not found");
-            }
-        }
+        assertAsk("The " + LDP_INSERTED_CONTENT_RELATION_PREDICATE + " predicate was expected but not found",
+                  HAS_PREDICATE, doGetRdf(containerResource),
+                  bindUris("s", containerResource, "p", LDP_INSERTED_CONTENT_RELATION_PREDICATE));
     }
 
     /**
@@ -1293,7 +1255,7 @@ public class Container extends AbstractTest {
         final String body = "";
         final Response container = createIndirectContainer(uri, body);
         final String containerResource = getLocation(container);
-        final Response response = doGet(getLocation(container));
+        final Response response = doGetRdf(getLocation(container));
         confirmPresenceOrAbsenceOfTripleInResponse(response, containerResource, LDP_INSERTED_CONTENT_RELATION_PREDICATE,
                                                    LDP_MEMBER_SUBJECT, true);
     }
@@ -1327,7 +1289,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PUT updates on " + LDP_INSERTED_CONTENT_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_INSERTED_CONTENT_RELATION_PREDICATE, value2, true);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
@@ -1367,7 +1329,7 @@ public class Container extends AbstractTest {
                 "This implementation does not support PATCH updates on " + LDP_INSERTED_CONTENT_RELATION_PREDICATE);
         }
 
-        final Response getUpdatedResource = doGet(containerResource);
+        final Response getUpdatedResource = doGetRdf(containerResource);
         confirmPresenceOrAbsenceOfTripleInResponse(getUpdatedResource, containerResource,
                                                    LDP_INSERTED_CONTENT_RELATION_PREDICATE, memberSubject, true);
 
@@ -27,11 +27,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.apache.http.message.BasicHeaderValueParser;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
@@ -57,7 +56,6 @@ import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertTrue;
-import static java.util.Collections.emptyList;
 
 /**
  * @author awoods
@@ -74,8 +72,6 @@ public class ExternalBinaryContent extends AbstractTest {
 
     private String externalUriWithNoType;
 
-    private Boolean extContentSupported;
-
     /**
      * Constructor
      * @throws IOException thrown if unable to create temp file
@@ -111,7 +107,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -133,7 +129,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -155,7 +151,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -176,7 +172,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -197,7 +193,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -218,7 +214,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -239,7 +235,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -261,7 +257,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -283,7 +279,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -305,7 +301,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -327,7 +323,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -349,7 +345,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -371,7 +367,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -393,7 +389,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -415,7 +411,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -437,7 +433,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -459,7 +455,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -481,7 +477,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://fedora.info/definitions/fcrepo#ExternalContent\"",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -502,7 +498,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "with a 4xx range status code",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (externalContentSupported(uri)) {
+        if (ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are supported");
         }
 
@@ -525,7 +521,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://www.w3.org/ns/ldp#constrainedBy\" link in the Link response header.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (externalContentSupported(uri)) {
+        if (ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are supported");
         }
 
@@ -547,11 +543,11 @@ public class ExternalBinaryContent extends AbstractTest {
                         "copy, redirect, and/or proxy.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
-        final List<String> acceptedHandlingTypes = getAcceptedHandlingTypes(uri);
+        final List<String> acceptedHandlingTypes = ServerCapabilities.get().getExternalContentHandling();
 
         final List<String> acceptedAndExpected = acceptedHandlingTypes.stream()
                 .filter(HANDLINGS::contains)
@@ -580,7 +576,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "is not present or cannot be respected.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -604,7 +600,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "rel=\"http://www.w3.org/ns/ldp#constrainedBy\" link in the Link response header.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -627,7 +623,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "type of the external content, if provided.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -653,7 +649,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "specified scheme (e.g. the Content-Type header for external content accessed via http).",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -677,7 +673,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "Servers may use a default media type.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -702,7 +698,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "Servers may reject the request with a 4xx range status code.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -724,7 +720,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "ignored.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -751,7 +747,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "ignored.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -777,7 +773,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "required by the LDP-NR interaction model in this specification.",
                 SPEC_BASE_URL + "#external-content", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -805,7 +801,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "header in response to \"OPTIONS\" request.",
                 SPEC_BASE_URL + "#external-content-options", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -823,7 +819,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "\"Want-Digest\" header.",
                 SPEC_BASE_URL + "#redirect-and-proxy", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -848,7 +844,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "\"Want-Digest\" header.",
                 SPEC_BASE_URL + "#redirect-and-proxy", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -873,7 +869,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "must have status code of either 302 (Found) or 307 (Temporary Redirect)",
                 SPEC_BASE_URL + "#redirect-and-proxy", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -896,7 +892,7 @@ public class ExternalBinaryContent extends AbstractTest {
                         "must have status code of either 302 (Found) or 307 (Temporary Redirect)",
                 SPEC_BASE_URL + "#redirect-and-proxy", ps);
 
-        if (!externalContentSupported(uri)) {
+        if (!ServerCapabilities.get().supportsExternalContent()) {
             throw new SkipException("External Binaries are NOT supported");
         }
 
@@ -909,24 +905,6 @@ public class ExternalBinaryContent extends AbstractTest {
                 .statusCode(anyOf(is(302), is(307)));
     }
 
-    private boolean externalContentSupported(final String uri) {
-        if (extContentSupported == null) {
-            final String header = doOptions(uri).header("Accept-External-Content-Handling");
-            extContentSupported = header != null;
-        }
-
-        return extContentSupported;
-    }
-
-    private List<String> getAcceptedHandlingTypes(final String uri) {
-        final String header = doOptions(uri).header("Accept-External-Content-Handling");
-        if (header == null) {
-            return emptyList();
-        }
-        return Arrays.stream(BasicHeaderValueParser.parseElements(header, null))
-                .map(Objects::toString).collect(Collectors.toList());
-    }
-
     private String mockHttpResource(final String filename, final String type, final String content) {
         wireMockServer.stubFor(head(urlEqualTo("/" + filename))
                 .willReturn(aResponse()
@@ -24,6 +24,7 @@ import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.Assert;
 import org.testng.SkipException;
@@ -46,6 +47,9 @@ public class HttpDelete extends AbstractTest {
                                         SPEC_BASE_URL + "#http-delete-recursion",
                                         ps);
 
+        // Is DELETE supported?
+        skipTestIfDeleteNotSupported();
+
         final Response resourceOp = createBasicContainer(uri, info);
         final String locationHeader = getLocation(resourceOp);
         final Response resourceSonOp = createBasicContainer(locationHeader, "Delete-" + info.getId());
@@ -76,9 +80,6 @@ public class HttpDelete extends AbstractTest {
         ps.append("Headers:\tAccept=*/*\n");
         ps.append("Body:\n");
 
-        // Is DELETE supported?
-        skipTestIfDeleteNotSupported(locationHeader);
-
         // Delete to resourceOp
         final Response response = doDelete(locationHeader);
 
@@ -108,6 +109,10 @@ public class HttpDelete extends AbstractTest {
                                         + "unless the entire operation successfully completed.",
                                         SPEC_BASE_URL + "#http-delete-recursion",
                                         ps);
+
+        // Is DELETE supported?
+        skipTestIfDeleteNotSupported();
+
         // Create resources
         final Response rootres = createBasicContainer(uri, info);
         final String locationHeader = getLocation(rootres);
@@ -138,9 +143,6 @@ public class HttpDelete extends AbstractTest {
         ps.append("Headers:\tAccept=*/*\n");
         ps.append("Body:\n");
 
-        // Is DELETE supported?
-        skipTestIfDeleteNotSupported(locationHeader);
-
         // Delete root folder
         final Response response = doDelete(locationHeader);
 
@@ -186,6 +188,10 @@ public class HttpDelete extends AbstractTest {
                                         + "the resource has been successfully removed.",
                                         SPEC_BASE_URL + "#http-delete-recursion",
                                         ps);
+
+        // Is DELETE supported?
+        skipTestIfDeleteNotSupported();
+
         // Create resources
         final Response rootres = createBasicContainer(uri, info);
         final String locationHeader = getLocation(rootres);
@@ -216,9 +222,6 @@ public class HttpDelete extends AbstractTest {
         ps.append("Headers:\tAccept=*/*\n");
         ps.append("Body:\n");
 
-         // Is DELETE supported?
-        skipTestIfDeleteNotSupported(locationHeader);
-
         // Delete root folder
         final Response response = doDelete(locationHeader);
 
@@ -254,10 +257,8 @@ public class HttpDelete extends AbstractTest {
         }
     }
 
-    private void skipTestIfDeleteNotSupported(final String location) {
-        final Response response = doOptions(location);
-
-        if (getHeaders(response, "Allow").noneMatch(h -> h.getValue().contains("DELETE"))) {
+    private void skipTestIfDeleteNotSupported() {
+        if (!ServerCapabilities.get().supportsDeleteOfContainersWithChildren()) {
             throw new SkipException("DELETE not supported");
         }
     }
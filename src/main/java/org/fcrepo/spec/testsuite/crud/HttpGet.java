@@ -17,10 +17,8 @@
  */
 package org.fcrepo.spec.testsuite.crud;
 
-import static org.fcrepo.spec.testsuite.Constants.CONTENT_DISPOSITION;
 import static org.fcrepo.spec.testsuite.Constants.DIGEST;
 import static org.fcrepo.spec.testsuite.Constants.RDF_BODY;
-import static org.fcrepo.spec.testsuite.Constants.SLUG;
 import static org.hamcrest.Matchers.containsString;
 
 import java.net.URI;
@@ -55,8 +53,7 @@ public class HttpGet extends AbstractTest {
                                         "Prefer header when making GET requests on LDPC resources.",
                                         SPEC_BASE_URL + "#additional-prefer-values",
                                         ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
 
         // Create second resource that references first resource.
         final Response referrer = createBasicContainer(
@@ -68,7 +65,7 @@ public class HttpGet extends AbstractTest {
                 ResourceFactory.createProperty("http://purl.org/dc/terms/isPartOf"),
                 ResourceFactory.createResource(locationHeader));
 
-        doGet(locationHeader, new Header("Prefer", "return=representation; "
+        doGetRdf(locationHeader, new Header("Prefer", "return=representation; "
                 + "include=\"http://fedora.info/definitions/fcrepo#PreferInboundReferences\""))
                 .then()
                 .header("preference-applied", containsString("return=representation"))
@@ -87,8 +84,7 @@ public class HttpGet extends AbstractTest {
                         "Prefer header when making GET requests on LDPC resources.",
                 SPEC_BASE_URL + "#additional-prefer-values",
                 ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
 
         final Response child = createBasicContainer(locationHeader, "child", RDF_BODY);
 
@@ -98,7 +94,7 @@ public class HttpGet extends AbstractTest {
                 ResourceFactory.createProperty("http://xmlns.com/foaf/0.1/name"),
                 ResourceFactory.createStringLiteral("Pythagoras"));
 
-        final Response response = doGet(locationHeader, new Header("Prefer", "return=representation; "
+        final Response response = doGetRdf(locationHeader, new Header("Prefer", "return=representation; "
                 + "include=\"http://www.w3.org/ns/oa#PreferContainedDescriptions\""));
 
         final String header = response.getHeader("preference-applied");
@@ -124,8 +120,7 @@ public class HttpGet extends AbstractTest {
                                         + " response header as defined in [RFC7240] section 3.",
                                         SPEC_BASE_URL + "#http-get-ldprs",
                                         ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
         doGet(locationHeader, new Header("Prefer", "return=representation; "
                         + "include=\"http://www.w3.org/ns/ldp#PreferMinimalContainer\""))
                 .then()
@@ -146,11 +141,7 @@ public class HttpGet extends AbstractTest {
                                         + "in question, as defined in [RFC6892].",
                                         SPEC_BASE_URL + "#http-get-ldprs",
                                         ps);
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"responseDescribesHeader.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = nonRdfSourceFixture(uri, info);
 
         // Get Binary description (from community impl: /fcr:metadata)
         final Response getResponse = doGet(locationHeader);
@@ -179,11 +170,7 @@ public class HttpGet extends AbstractTest {
                                         ps);
         final String checksum = "md5";
 
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"respondwantdigest.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGet(locationHeader, new Header("Want-Digest", checksum))
                 .then()
                 .statusCode(200)
@@ -203,11 +190,7 @@ public class HttpGet extends AbstractTest {
                                         ps);
         final String checksum = "sha";
 
-        final Headers headers = new Headers(
-            new Header(CONTENT_DISPOSITION, "attachment; filename=\"respondwantdigest.txt\""),
-            new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGet(locationHeader, new Header("Want-Digest", checksum))
             .then()
             .statusCode(200)
@@ -227,11 +210,7 @@ public class HttpGet extends AbstractTest {
                                         ps);
         final String checksum = "sha-256";
 
-        final Headers headers = new Headers(
-            new Header(CONTENT_DISPOSITION, "attachment; filename=\"respondwantdigest.txt\""),
-            new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGet(locationHeader, new Header("Want-Digest", checksum))
             .then()
             .statusCode(200)
@@ -250,11 +229,7 @@ public class HttpGet extends AbstractTest {
                                         + "header defined in [RFC3230]",
                                         SPEC_BASE_URL + "#http-get-ldpnr",
                                         ps);
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"wantdigestTwoSupported.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
 
         final Response wantDigestResponse = doGet(locationHeader, new Header("Want-Digest", checksum));
 
@@ -284,11 +259,7 @@ public class HttpGet extends AbstractTest {
                                         SPEC_BASE_URL + "#http-get-ldpnr",
                                         ps);
 
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"wantdigestTwoSupportedQvalueNonZero.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         final Response wantDigestResponse = doGet(locationHeader, new Header("Want-Digest", checksum));
 
         final Headers responseHeaders = wantDigestResponse.getHeaders();
@@ -316,11 +287,7 @@ public class HttpGet extends AbstractTest {
                                         + " header defined in [RFC3230]",
                                         SPEC_BASE_URL + "#http-get-ldpnr",
                                         ps);
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"wantDigestTwoSupportedQvalueZero.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGet(locationHeader, new Header("Want-Digest", checksum))
                 .then()
                 .header(DIGEST, containsString("md5"));
@@ -339,11 +306,7 @@ public class HttpGet extends AbstractTest {
                                         + "header defined in [RFC3230]",
                                         SPEC_BASE_URL + "#http-get-ldpnr",
                                         ps);
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"wantDigestNonSupported.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGet(locationHeader, new Header("Want-Digest", checksum))
                 .then()
                 .header(DIGEST, containsString("md5"));
@@ -362,11 +325,7 @@ public class HttpGet extends AbstractTest {
                                         + "header defined in [RFC3230].",
                                         SPEC_BASE_URL + "#http-get-ldpnr",
                                         ps);
-        final Headers headers = new Headers(
-            new Header(CONTENT_DISPOSITION, "attachment; filename=\"wantDigestNonSupported.txt\""),
-            new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = sharedNonRdfSource();
         doGetUnverified(locationHeader, new Header("Want-Digest", checksum))
             .then()
             .statusCode(400);
@@ -93,8 +93,7 @@ public class HttpPatch extends AbstractTest {
         final TestInfo info = setupTest("3.7-B",
                                         "Other content-types (e.g. [ldpatch]) may be available.",
                                         SPEC_BASE_URL + "#http-patch", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
         final Headers headers = new Headers(new Header("Content-Type", "text/ldpatch"));
         final Response response = doPatchUnverified(locationHeader, headers, ldpatch);
 
@@ -115,8 +114,7 @@ public class HttpPatch extends AbstractTest {
                                         + "4.2.4.1), the server must fail the request by responding with a 4xx range"
                                         + " status code (e.g. 409 Conflict).",
                                         SPEC_BASE_URL + "#http-patch", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String resourceUri = getLocation(resource);
+        final String resourceUri = basicContainerFixture(uri, info);
         patchWithDisallowedStatement(resourceUri).then().statusCode(clientErrorRange());
     }
 
@@ -142,8 +140,7 @@ public class HttpPatch extends AbstractTest {
                                         + " about which statements could not be persisted."
                                         + " ([LDP] 4.2.4.4 should becomes must).",
                                         SPEC_BASE_URL + "#http-patch", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String resourceUri = getLocation(resource);
+        final String resourceUri = basicContainerFixture(uri, info);
         //the check for not null body is not ideal,
         //but given the dynamic nature of the test,
         //it's not clear to me how to test this requirement (dbernstein)
@@ -164,8 +161,7 @@ public class HttpPatch extends AbstractTest {
                                         + "response header per [LDP] 4.2.1.6.",
                                         SPEC_BASE_URL + "#http-patch", ps);
 
-        final Response resource = createBasicContainer(uri, info);
-        final String resourceUri = getLocation(resource);
+        final String resourceUri = basicContainerFixture(uri, info);
         final Response patchResponse = patchWithDisallowedStatement(resourceUri);
         patchResponse.then().statusCode(clientErrorRange());
         confirmPresenceOfConstrainedByLink(patchResponse);
@@ -181,8 +177,7 @@ public class HttpPatch extends AbstractTest {
                                         + "specific code in the 2xx range may vary according to the response "
                                         + "body or request state.",
                                         SPEC_BASE_URL + "#http-patch", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
         ps.append("Request method:\tPATCH\n");
         ps.append("Request URI:\t").append(uri);
         ps.append("Headers:\tAccept=*/*\n");
@@ -216,8 +211,7 @@ public class HttpPatch extends AbstractTest {
                                         + " 409 (Conflict) status code.",
                                         SPEC_BASE_URL + "#http-patch-containment-triples",
                                         ps);
-        final Response container = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(container);
+        final String locationHeader = basicContainerFixture(uri, info);
         createBasicContainer(locationHeader, info.getId(), BASIC_CONTAINER_BODY);
 
         final Headers headers = new Headers(new Header("Content-Type", APPLICATION_SPARQL_UPDATE));
@@ -237,8 +231,7 @@ public class HttpPatch extends AbstractTest {
                                         + " of the current resource type. That request must be rejected"
                                         + " with a 409 Conflict response.",
                                         SPEC_BASE_URL + "#http-patch-ixn-models", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
 
         final Headers headers = new Headers(new Header("Content-Type", APPLICATION_SPARQL_UPDATE));
         doPatchUnverified(locationHeader, headers, resourceType)
@@ -110,8 +110,7 @@ public class HttpPut extends AbstractTest {
                                         " triples (as defined "
                                         + "in [LDP] 2). [LDP] 4.2.4.1 and 4.2.4.3 remain in effect.",
                                         SPEC_BASE_URL + "#http-put-ldprs", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
         final Header preferHeader = new Header("Prefer",
                 "return=representation; include=\"http://www.w3.org/ns/ldp#PreferMinimalContainer\"; " +
                         "omit=\"http://fedora.info/definitions/fcrepo#ServerManaged\"");
@@ -159,9 +158,7 @@ public class HttpPut extends AbstractTest {
                                         + "responding with a 4xx "
                                         + "range status code (e.g. 409 Conflict).",
                                         SPEC_BASE_URL + "#http-put-ldprs", ps);
-        final Response resource = createBasicContainer(uri, info);
-
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
 
         createBasicContainer(locationHeader, "containedFolderSlug", BASIC_CONTAINER_BODY);
 
@@ -200,8 +197,7 @@ public class HttpPut extends AbstractTest {
                                         + "about which statements could"
                                         + " not be persisted. ([LDP] 4.2.4.4 should becomes must).",
                                         SPEC_BASE_URL + "#http-put-ldprs", ps);
-        final Response resource = createBasicContainer(uri, info);
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = basicContainerFixture(uri, info);
 
         createBasicContainer(locationHeader, "containedFolderSlug", BASIC_CONTAINER_BODY);
 
@@ -285,11 +281,7 @@ public class HttpPut extends AbstractTest {
         final TestInfo info = setupTest("3.6.2-A",
                                         "Any LDP-NR must support PUT to replace the binary content of that resource.",
                                         SPEC_BASE_URL + "#http-put-ldpnr", ps);
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"postCreate.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString.");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = nonRdfSourceFixture(uri, info);
 
         final Response getResponse = doGet(locationHeader);
         final String etag = getETag(getResponse);
@@ -325,11 +317,7 @@ public class HttpPut extends AbstractTest {
                                         + "with a 409 Conflict response.",
                                         SPEC_BASE_URL + "#http-put-ldpnr", ps);
         final String checksum = "MD5=97c4627dc7734f65f5195f1d5f556d7a";
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"digestAuth.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString.");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = nonRdfSourceFixture(uri, info);
 
         final Headers headers1 = new Headers(
                 new Header(DIGEST, checksum),
@@ -350,11 +338,7 @@ public class HttpPut extends AbstractTest {
                                         + " be rejected with a 400 (Bad Request) response.",
                                         SPEC_BASE_URL + "#http-put-ldpnr", ps);
         final String checksum = "abc=abc";
-        final Headers headers = new Headers(
-                new Header(CONTENT_DISPOSITION, "attachment; filename=\"postCreate.txt\""),
-                new Header(SLUG, info.getId()));
-        final Response resource = doPost(uri, headers, "TestString.");
-        final String locationHeader = getLocation(resource);
+        final String locationHeader = nonRdfSourceFixture(uri, info);
 
         final Headers headers1 = new Headers(
                 new Header(DIGEST, checksum),
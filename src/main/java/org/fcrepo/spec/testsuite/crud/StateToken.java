@@ -24,6 +24,7 @@ import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 import org.fcrepo.spec.testsuite.TestInfo;
 import org.testng.SkipException;
 import org.testng.annotations.Test;
@@ -47,13 +48,13 @@ public class StateToken extends AbstractTest {
                                         "changed.",
                                         SPEC_BASE_URL + "#x-state-token", ps);
 
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response getResponse = doGet(resourceUri);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(getResponse);
-
         final String value = getResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
         final String sparqlUpdate =
@@ -63,16 +64,12 @@ public class StateToken extends AbstractTest {
                       doGet(resourceUri).header(STATE_TOKEN));
     }
 
-    private void skipIfStateTokenNotSupported(final Response response) throws SkipException {
-        if (!isStateTokenSupported(response)) {
+    private void skipIfStateTokenNotSupported() throws SkipException {
+        if (!ServerCapabilities.get().supportsStateTokens()) {
             throw new SkipException("This implementation does not support " + STATE_TOKEN);
         }
     }
 
-    private boolean isStateTokenSupported(final Response response) {
-        return response.getHeaders().hasHeaderWithName(STATE_TOKEN);
-    }
-
     /**
      * 3.10.1-B
      */
@@ -85,12 +82,16 @@ public class StateToken extends AbstractTest {
                                         "resource has changed.",
                                         SPEC_BASE_URL + "#x-state-token", ps);
 
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response headResponse = doHead(resourceUri);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(headResponse);
+        if (!headResponse.getHeaders().hasHeaderWithName(STATE_TOKEN)) {
+            throw new SkipException("This implementation does not support " + STATE_TOKEN + " on HEAD");
+        }
 
         final String value = headResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
@@ -111,13 +112,14 @@ public class StateToken extends AbstractTest {
                                         " make the request conditional on the resource's current state token matching" +
                                         " the client's value.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response getResponse = doGet(resourceUri);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(getResponse);
-
         final String value = getResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
         final String sparqlUpdate =
@@ -138,16 +140,16 @@ public class StateToken extends AbstractTest {
                                         " the client's value. If an implementation does not support state tokens, it " +
                                         "may ignore any X-If-State-Token header in HTTP PATCH requests.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+        if (ServerCapabilities.get().supportsStateTokens()) {
+            return;
+        }
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
-        final Response getResponse = doGet(resourceUri);
-        if (!isStateTokenSupported(getResponse)) {
-            final String sparqlUpdate =
-                "INSERT { <> <http://purl.org/dc/elements/1.1/title> \"test\" . } WHERE {}";
-            doPatchUnverified(resourceUri, new Headers(new Header(IF_STATE_TOKEN, "random-token"),
-                                                       new Header("Content-Type", "application/sparql-update")),
-                              sparqlUpdate).then().statusCode(successRange());
-        }
+        final String sparqlUpdate =
+            "INSERT { <> <http://purl.org/dc/elements/1.1/title> \"test\" . } WHERE {}";
+        doPatchUnverified(resourceUri, new Headers(new Header(IF_STATE_TOKEN, "random-token"),
+                                                   new Header("Content-Type", "application/sparql-update")),
+                          sparqlUpdate).then().statusCode(successRange());
     }
 
     /**
@@ -164,13 +166,14 @@ public class StateToken extends AbstractTest {
                                         "supports state tokens, but the client-supplied value does not match the " +
                                         "resource's current state token.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response getResponse = doGet(resourceUri);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(getResponse);
-
         final String value = getResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
         final String sparqlUpdate =
@@ -191,6 +194,10 @@ public class StateToken extends AbstractTest {
                                         " make the request conditional on the resource's current state token matching" +
                                         " the client's value.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Header preferHeader = new Header("Prefer", "return=representation; " +
@@ -198,9 +205,6 @@ public class StateToken extends AbstractTest {
                 "omit=\"http://fedora.info/definitions/fcrepo#ServerManaged\"");
         final Response getResponse = doGet(resourceUri, preferHeader);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(getResponse);
-
         final String value = getResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
         final String responseTxt = getResponse.getBody().asString();
@@ -222,15 +226,16 @@ public class StateToken extends AbstractTest {
                                         " the client's value. If an implementation does not support state tokens, it " +
                                         "may ignore any X-If-State-Token header in HTTP PUT requests.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+        if (ServerCapabilities.get().supportsStateTokens()) {
+            return;
+        }
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response getResponse = doGet(resourceUri);
-        if (!isStateTokenSupported(getResponse)) {
-            final String responseTxt = getResponse.getBody().asString();
-            doPut(resourceUri, new Headers(new Header(IF_STATE_TOKEN, "random-token"),
-                                           new Header("Content-Type", "text/turtle")),
-                  responseTxt);
-        }
+        final String responseTxt = getResponse.getBody().asString();
+        doPut(resourceUri, new Headers(new Header(IF_STATE_TOKEN, "random-token"),
+                                       new Header("Content-Type", "text/turtle")),
+              responseTxt);
     }
 
     /**
@@ -247,13 +252,14 @@ public class StateToken extends AbstractTest {
                                         "supports state tokens, but the client-supplied value does not match the " +
                                         "resource's current state token.",
                                         SPEC_BASE_URL + "#x-if-state-token", ps);
+
+        //throw skip exception if state token not supported
+        skipIfStateTokenNotSupported();
+
         final Response createResponse = createBasicContainer(uri, info.getId());
         final String resourceUri = getLocation(createResponse);
         final Response getResponse = doGet(resourceUri);
 
-        //throw skip exception if state token not supported
-        skipIfStateTokenNotSupported(getResponse);
-
         final String value = getResponse.getHeader(STATE_TOKEN);
         assertNotNull(STATE_TOKEN + " must not be null.", value);
         final String responseTxt = getResponse.getBody().asString();
@@ -32,6 +32,7 @@ import javax.jms.JMSException;
 import javax.jms.MessageConsumer;
 import javax.jms.TextMessage;
 
+import org.fcrepo.spec.testsuite.SharedState;
 import org.fcrepo.spec.testsuite.TestInfo;
 
 import org.apache.jena.rdf.model.Model;
@@ -48,11 +49,13 @@ import io.restassured.http.Headers;
 import io.restassured.response.Response;
 
 /**
- * API Spec event testing.
+ * API Spec event testing. Every test resets the shared JMS connection and listens for events from any resource,
+ * so the tests run with no other test at all.
  *
  * @author whikloj
  * @since 2018-09-21
  */
+@SharedState
 public class NotificationTest extends AbstractEventTest {
 
     private static final String ACTIVITY_STREAMS_NS = "https://www.w3.org/ns/activitystreams#";
@@ -33,6 +33,8 @@ import java.util.Map;
 import java.util.Properties;
 
 import org.fcrepo.spec.testsuite.App;
+import org.fcrepo.spec.testsuite.Measurements;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 import org.fcrepo.spec.testsuite.TestParameters;
 import org.fcrepo.spec.testsuite.TestSuiteGlobals;
 import org.rendersnake.HtmlCanvas;
@@ -96,6 +98,12 @@ public class HtmlReporter implements IReporter {
                 // Display results summary
                 displayResultsSummary();
 
+                // Display capabilities detected before the run
+                displayServerCapabilities();
+
+                // Display measurements of the SCALE tests, if any ran
+                displayMeasurements();
+
                 //Display methods summary
                 makeMethodSummaryTable();
 
@@ -150,6 +158,38 @@ public class HtmlReporter implements IReporter {
         html.br();
     }
 
+    private void displayServerCapabilities() throws IOException {
+        html.table(class_("indented"));
+        html.tr().th().content("Server Capability");
+        html.th().content("Detected")._tr();
+        for (final Map.Entry<String, String> capability : ServerCapabilities.get().describe().entrySet()) {
+            html.tr();
+            html.td().content(capability.getKey());
+            html.td().content(capability.getValue());
+            html._tr();
+        }
+        html._table();
+        html.br();
+    }
+
+    private void displayMeasurements() throws IOException {
+        final Map<String, String> measurements = Measurements.get();
+        if (measurements.isEmpty()) {
+            return;
+        }
+        html.table(class_("indented"));
+        html.tr().th().content("Measured");
+        html.th().content("Result")._tr();
+        for (final Map.Entry<String, String> measurement : measurements.entrySet()) {
+            html.tr();
+            html.td().content(measurement.getKey());
+            html.td().content(measurement.getValue());
+            html._tr();
+        }
+        html._table();
+        html.br();
+    }
+
     private int getNumTestsByRequirement(final IResultMap results, final String req) {
         int numResults = 0;
         for (final ITestResult result : results.getAllResults()) {
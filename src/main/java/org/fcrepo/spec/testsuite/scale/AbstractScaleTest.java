@@ -0,0 +1,183 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite.scale;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import org.apache.commons.io.input.CountingInputStream;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.fcrepo.spec.testsuite.AbstractTest;
+
+/**
+ * Base class of the SCALE tests, which build large resources and measure how the server handles them. Response
+ * bodies are parsed as they arrive, so that their size is bounded by the server rather than by the client's heap.
+ *
+ * @author dbernstein
+ */
+public class AbstractScaleTest extends AbstractTest {
+
+    /**
+     * The number of requests in flight while filling a container.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Create empty basic containers in a parent. The exchanges are not logged, and the children are only deleted on
+     * their own if the server cannot delete the parent along with them.
+     *
+     * @param parent the parent container
+     * @param count the number of children
+     */
+    protected void createChildren(final String parent, final int count) {
+        final long start = System.nanoTime();
+        final List<CompletableFuture<String>> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(async(() -> createBasicContainerUnlogged(parent)));
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                batch.forEach(this::join);
+                batch.clear();
+            }
+        }
+        ps.append(String.format(Locale.ROOT, "Created %d children of %s in %d ms\n", count, parent,
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * GET a resource as RDF, parsing the body as it arrives.
+     *
+     * @param uri the resource
+     * @param predicate the predicate of the triples about the resource to count
+     * @param headers any other headers of the request
+     * @return the timing and contents of the response
+     */
+    protected StreamedRead readRdf(final String uri, final String predicate, final Header... headers) {
+        final long start = System.nanoTime();
+        final Response response = doGetStreamed(uri, headers);
+        final long headersReceived = System.nanoTime();
+        final TripleCounter counter = new TripleCounter(NodeFactory.createURI(uri), NodeFactory.createURI(predicate));
+        final long bytes;
+        final long parseStart = cpuTime();
+        try (CountingInputStream body = new CountingInputStream(response.asInputStream())) {
+            RDFDataMgr.parse(counter, body, uri, getRdfReadLang());
+            bytes = body.getByteCount();
+        } catch (final IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        final long parseNanos = cpuTime() - parseStart;
+        final long end = System.nanoTime();
+        return new StreamedRead(headersReceived - start, end - start, parseNanos, bytes, counter.triples,
+                                counter.matches);
+    }
+
+    /**
+     * The CPU time of the current thread, which leaves out the time spent waiting for the body to arrive.
+     *
+     * @return the time in nanoseconds, or 0 if the JVM cannot measure it
+     */
+    private static long cpuTime() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * The timing and contents of a response read by {@link #readRdf(String, String, Header...)}.
+     */
+    protected static class StreamedRead {
+
+        private final long headersNanos;
+
+        private final long totalNanos;
+
+        private final long parseNanos;
+
+        private final long bytes;
+
+        private final long triples;
+
+        private final long matches;
+
+        private StreamedRead(final long headersNanos, final long totalNanos, final long parseNanos,
+                             final long bytes, final long triples, final long matches) {
+            this.headersNanos = headersNanos;
+            this.totalNanos = totalNanos;
+            this.parseNanos = parseNanos;
+            this.bytes = bytes;
+            this.triples = triples;
+            this.matches = matches;
+        }
+
+        /**
+         * @return the number of triples about the resource with the counted predicate
+         */
+        public long getMatches() {
+            return matches;
+        }
+
+        /**
+         * @return the number of triples in the body
+         */
+        public long getTriples() {
+            return triples;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d ms (headers after %d ms, parsing %d ms of CPU), %,d bytes, " +
+                                 "%,d triples, %,d matching", TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                                 TimeUnit.NANOSECONDS.toMillis(headersNanos), TimeUnit.NANOSECONDS.toMillis(parseNanos),
+                                 bytes, triples, matches);
+        }
+    }
+
+    private static class TripleCounter extends StreamRDFBase {
+
+        private final Node subject;
+
+        private final Node predicate;
+
+        private long triples;
+
+        private long matches;
+
+        private TripleCounter(final Node subject, final Node predicate) {
+            this.subject = subject;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void triple(final Triple triple) {
+            triples++;
+            if (predicate.equals(triple.getPredicate()) && subject.equals(triple.getSubject())) {
+                matches++;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite.scale;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A Turtle body of many triples about the resource it is sent to, generated as it is read so that it is never held
+ * in memory. Every triple has the same predicate and a distinct literal object.
+ *
+ * @author dbernstein
+ */
+class GeneratedTriples extends InputStream {
+
+    /**
+     * The predicate of the generated triples.
+     */
+    static final String PREDICATE = "http://example.org/scale#value";
+
+    private static final byte[] PREFIX = ("<> <" + PREDICATE + "> \"value ").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUFFIX = "\" .\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final long count;
+
+    private long next;
+
+    private final byte[] line = new byte[PREFIX.length + 20 + SUFFIX.length];
+
+    private int lineLength;
+
+    private int position;
+
+    /**
+     * @param count the number of triples
+     */
+    GeneratedTriples(final long count) {
+        this.count = count;
+        System.arraycopy(PREFIX, 0, line, 0, PREFIX.length);
+    }
+
+    private boolean fill() {
+        if (position < lineLength) {
+            return true;
+        }
+        if (next == count) {
+            return false;
+        }
+        final byte[] number = Long.toString(next++).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(number, 0, line, PREFIX.length, number.length);
+        System.arraycopy(SUFFIX, 0, line, PREFIX.length + number.length, SUFFIX.length);
+        lineLength = PREFIX.length + number.length + SUFFIX.length;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public int read() {
+        return fill() ? line[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int read = 0;
+        while (read < length && fill()) {
+            final int n = Math.min(length - read, lineLength - position);
+            System.arraycopy(line, position, buffer, offset + read, n);
+            position += n;
+            read += n;
+        }
+        return read == 0 ? -1 : read;
+    }
+}
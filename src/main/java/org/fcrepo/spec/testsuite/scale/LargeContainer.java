@@ -0,0 +1,93 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Locale;
+
+import io.restassured.http.Header;
+import org.fcrepo.spec.testsuite.Measurements;
+import org.fcrepo.spec.testsuite.TestInfo;
+import org.testng.annotations.Test;
+
+/**
+ * Measures GET of containers with many children, with and without their containment triples.
+ *
+ * @author dbernstein
+ */
+public class LargeContainer extends AbstractScaleTest {
+
+    private static final String LDP_CONTAINS_PREDICATE = "http://www.w3.org/ns/ldp#contains";
+    private static final String CONTAINER_SPEC_LINK = SPEC_BASE_URL + "#ldpc";
+    private static final Header OMIT_CONTAINMENT = new Header("Prefer", "return=representation; " +
+                                                               "omit=\"http://www.w3.org/ns/ldp#PreferContainment\"");
+
+    /**
+     * SCALE-C-1K
+     */
+    @Test(groups = {"SCALE"})
+    public void containerWith1kChildren() {
+        final TestInfo info = setupTest("SCALE-C-1K",
+                                        "Measure GET of a container with 1,000 children, with and without " +
+                                        "containment triples.",
+                                        CONTAINER_SPEC_LINK,
+                                        ps);
+        measureContainment(info, 1_000);
+    }
+
+    /**
+     * SCALE-C-10K
+     */
+    @Test(groups = {"SCALE"})
+    public void containerWith10kChildren() {
+        final TestInfo info = setupTest("SCALE-C-10K",
+                                        "Measure GET of a container with 10,000 children, with and without " +
+                                        "containment triples.",
+                                        CONTAINER_SPEC_LINK,
+                                        ps);
+        measureContainment(info, 10_000);
+    }
+
+    /**
+     * SCALE-C-100K
+     */
+    @Test(groups = {"SCALE"})
+    public void containerWith100kChildren() {
+        final TestInfo info = setupTest("SCALE-C-100K",
+                                        "Measure GET of a container with 100,000 children, with and without " +
+                                        "containment triples.",
+                                        CONTAINER_SPEC_LINK,
+                                        ps);
+        measureContainment(info, 100_000);
+    }
+
+    private void measureContainment(final TestInfo info, final int children) {
+        final String container = getLocation(createBasicContainer(uri, info));
+        createChildren(container, children);
+
+        final StreamedRead full = readRdf(container, LDP_CONTAINS_PREDICATE);
+        Measurements.record(ps, String.format(Locale.ROOT, "Container of %,d children", children), full.toString());
+        assertEquals(full.getMatches(), children, "Unexpected number of containment triples");
+
+        final StreamedRead omitted = readRdf(container, LDP_CONTAINS_PREDICATE, OMIT_CONTAINMENT);
+        Measurements.record(ps, String.format(Locale.ROOT, "Container of %,d children, omitting containment", children),
+                            omitted.toString());
+        assertEquals(omitted.getMatches(), 0, "Containment triples were not omitted");
+    }
+}
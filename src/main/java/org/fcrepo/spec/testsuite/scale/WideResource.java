@@ -0,0 +1,100 @@
+/*
+ * Licensed to DuraSpace under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * DuraSpace licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.fcrepo.spec.testsuite.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.fcrepo.spec.testsuite.Measurements;
+import org.fcrepo.spec.testsuite.StreamedBody;
+import org.fcrepo.spec.testsuite.TestInfo;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Measures PUT and GET of RDF sources with many triples.
+ *
+ * @author dbernstein
+ */
+public class WideResource extends AbstractScaleTest {
+
+    private static final String PUT_LDPRS_SPEC_LINK = SPEC_BASE_URL + "#http-put-ldprs";
+
+    /**
+     * SCALE-W-10K
+     */
+    @Test(groups = {"SCALE"})
+    public void resourceWith10kTriples() {
+        final TestInfo info = setupTest("SCALE-W-10K",
+                                        "Measure PUT and GET of an RDF source with 10,000 triples.",
+                                        PUT_LDPRS_SPEC_LINK,
+                                        ps);
+        measureRoundTrip(info, 10_000);
+    }
+
+    /**
+     * SCALE-W-100K
+     */
+    @Test(groups = {"SCALE"})
+    public void resourceWith100kTriples() {
+        final TestInfo info = setupTest("SCALE-W-100K",
+                                        "Measure PUT and GET of an RDF source with 100,000 triples.",
+                                        PUT_LDPRS_SPEC_LINK,
+                                        ps);
+        measureRoundTrip(info, 100_000);
+    }
+
+    /**
+     * SCALE-W-1M
+     */
+    @Test(groups = {"SCALE"})
+    public void resourceWith1mTriples() {
+        final TestInfo info = setupTest("SCALE-W-1M",
+                                        "Measure PUT and GET of an RDF source with 1,000,000 triples.",
+                                        PUT_LDPRS_SPEC_LINK,
+                                        ps);
+        measureRoundTrip(info, 1_000_000);
+    }
+
+    private void measureRoundTrip(final TestInfo info, final int triples) {
+        final String resource = joinLocation(uri, info.getId());
+        final StreamedBody body = new StreamedBody(() -> new GeneratedTriples(triples), -1);
+
+        final long start = System.nanoTime();
+        final Response response = doPutUnlogged(resource, new Headers(new Header("Content-Type", "text/turtle")),
+                                                body);
+        final long putNanos = System.nanoTime() - start;
+        // Creating a resource with PUT is optional
+        if (clientErrorRange().matches(response.getStatusCode())) {
+            throw new SkipException("This implementation does not support creating resources with PUT");
+        }
+        assertEquals(response.getStatusCode(), 201, "Unexpected status creating " + resource);
+        Measurements.record(ps, String.format(Locale.ROOT, "PUT of %,d triples", triples),
+                            String.format(Locale.ROOT, "%d ms, %,d triples/s", TimeUnit.NANOSECONDS.toMillis(putNanos),
+                                          triples * TimeUnit.SECONDS.toNanos(1) / Math.max(putNanos, 1)));
+
+        final StreamedRead read = readRdf(resource, GeneratedTriples.PREDICATE);
+        Measurements.record(ps, String.format(Locale.ROOT, "GET of %,d triples", triples), read.toString());
+        assertEquals(read.getMatches(), triples, "Unexpected number of triples read back");
+    }
+}
@@ -20,7 +20,6 @@ package org.fcrepo.spec.testsuite.versioning;
 
 import static java.time.Instant.now;
 import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
-import static java.util.Arrays.sort;
 import static org.fcrepo.spec.testsuite.Constants.CONTENT_DISPOSITION;
 import static org.fcrepo.spec.testsuite.Constants.MEMENTO_DATETIME_HEADER;
 import static org.fcrepo.spec.testsuite.Constants.ORIGINAL_RESOURCE_LINK_HEADER;
@@ -35,9 +34,13 @@ import javax.ws.rs.core.Link;
 import io.restassured.http.Header;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
-import org.apache.http.message.BasicHeaderValueParser;
+import org.apache.jena.riot.Lang;
 import org.fcrepo.spec.testsuite.AbstractTest;
+import org.fcrepo.spec.testsuite.CanonicalGraph;
+import org.fcrepo.spec.testsuite.HeaderIndex;
+import org.fcrepo.spec.testsuite.ServerCapabilities;
 import org.fcrepo.spec.testsuite.TestInfo;
+import org.fcrepo.spec.testsuite.TestParameters;
 import org.testng.Assert;
 import org.testng.SkipException;
 
@@ -102,10 +105,7 @@ public class AbstractVersioningTest extends AbstractTest {
 
     protected boolean hasHeaderValueInMultiValueHeader(final String headerName, final String headerValue,
                                                        final Response response) {
-        return getHeaders(response, headerName).flatMap(header ->
-            Arrays.stream(BasicHeaderValueParser.parseElements(header.getValue(), null)))
-                .map(headerElement -> headerElement.toString().trim())
-                .anyMatch(val -> val.equalsIgnoreCase(headerValue));
+        return HeaderIndex.of(response).hasValue(headerName, headerValue);
     }
 
     protected void confirmPresenceOfMementoDatetimeHeader(final String mementoDateTime, final Response response) {
@@ -134,17 +134,19 @@ public class AbstractVersioningTest extends AbstractTest {
     }
 
     protected void confirmResponseBodyNTriplesAreEqual(final String responseBodyA, final String responseBodyB) {
-        final String[] aTriples = responseBodyA.split(".(\\r\\n|\\r|\\n)");
-        final String[] bTriples = responseBodyB.split(".(\\r\\n|\\r|\\n)");
-        Arrays.stream(aTriples).map(String::trim).toArray(unused -> aTriples);
-        Arrays.stream(bTriples).map(String::trim).toArray(unused -> bTriples);
-        sort(aTriples);
-        sort(bTriples);
-        Assert.assertTrue(Arrays.equals(aTriples, bTriples));
+        confirmGraphsAreEqual(CanonicalGraph.parse(responseBodyA, Lang.NTRIPLES),
+                              CanonicalGraph.parse(responseBodyB, Lang.NTRIPLES));
     }
 
     protected void confirmResponseBodyNTriplesAreEqual(final Response resourceA, final Response resourceB) {
-        confirmResponseBodyNTriplesAreEqual(resourceA.getBody().asString(), resourceB.getBody().asString());
+        confirmGraphsAreEqual(CanonicalGraph.parse(resourceA.getBody().asInputStream(), Lang.NTRIPLES),
+                              CanonicalGraph.parse(resourceB.getBody().asInputStream(), Lang.NTRIPLES));
+    }
+
+    private static void confirmGraphsAreEqual(final CanonicalGraph expected, final CanonicalGraph actual) {
+        if (!actual.equals(expected)) {
+            Assert.fail(actual.describeDifference(expected) + ": expected " + expected + " but found " + actual);
+        }
     }
 
     /**
@@ -180,8 +182,8 @@ public class AbstractVersioningTest extends AbstractTest {
         } else {
             // otherwise create a memento by altering the original resource and retrieving the most recent memento
             //if ldp-rs
-            if (getLinksOfRelType(response, "type")
-                .anyMatch(link -> link.equals(Link.valueOf(RDF_SOURCE_LINK_HEADER)))) {
+            final Link rdfSource = Link.valueOf(RDF_SOURCE_LINK_HEADER);
+            if (getLinksOfRelType(response, "type").anyMatch(rdfSource::equals)) {
                 final String body = "PREFIX rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#>\n" +
                                     "PREFIX pcdm: <http://pcdm.org/models#>\n" +
                                     "INSERT  {\n" +
@@ -204,6 +206,22 @@ public class AbstractVersioningTest extends AbstractTest {
         }
     }
 
+    /**
+     * Get a memento of a versioned resource, shared by the tests which only read them.
+     *
+     * @param nonRdfSource whether the versioned resource is an LDP-NR rather than an LDP-RS
+     * @param info the test
+     * @return the versioned resource and its memento
+     */
+    protected SharedMemento sharedMemento(final boolean nonRdfSource, final TestInfo info) {
+        return sharedFixture(nonRdfSource ? "LDP-NR memento" : "LDP-RS memento", () -> {
+            final String container = TestParameters.get().getTestContainerUrl();
+            final String original = getLocation(nonRdfSource ? createVersionedNonRDFResource(container, info) :
+                                                createVersionedResource(container, info));
+            return new SharedMemento(original, createMemento(original));
+        });
+    }
+
     protected void confirmPresenceOfRelType(final Response response, final String relType) {
         Assert.assertEquals(getLinksOfRelType(response, relType).count(),
                             1,
@@ -214,11 +232,43 @@ public class AbstractVersioningTest extends AbstractTest {
         confirmPresenceOfRelType(response, "timemap");
     }
 
-    protected void skipIfVersionedByDefault(final Response response) {
-        if (getLinksOfRelType(response, "type").filter(x -> x.getUri().equals(
-            Link.valueOf(ORIGINAL_RESOURCE_LINK_HEADER).getUri())).count() == 1) {
+    protected void skipIfVersionedByDefault() {
+        if (ServerCapabilities.get().isVersionedByDefault()) {
             throw new SkipException("This container versions resources by default");
         }
     }
 
+    /**
+     * A versioned resource and one of its mementos.
+     */
+    protected static class SharedMemento {
+
+        private final String original;
+
+        private final String memento;
+
+        private SharedMemento(final String original, final String memento) {
+            this.original = original;
+            this.memento = memento;
+        }
+
+        /**
+         * @return the url of the versioned resource
+         */
+        public String getOriginal() {
+            return original;
+        }
+
+        /**
+         * @return the url of the memento
+         */
+        public String getMemento() {
+            return memento;
+        }
+
+        @Override
+        public String toString() {
+            return memento + " of " + original;
+        }
+    }
 }
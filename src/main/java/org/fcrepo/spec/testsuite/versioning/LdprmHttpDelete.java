@@ -69,7 +69,7 @@ public class LdprmHttpDelete extends AbstractVersioningTest {
                 createResource(mementoUri));
 
         // Both triples should be ldp:contained
-        doGet(timemapUri.toString()).then()
+        doGetRdf(timemapUri.toString()).then()
                 .body(new TripleMatcher<Statement>(tripleMember, false));
 
     }
@@ -48,9 +48,7 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDPRm
-        final Response resp = createVersionedResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final String mementoUri = sharedMemento(false, info).getMemento();
 
         //verify that a subsequent GET returns 200.
         doGet(mementoUri);
@@ -67,9 +65,7 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDP-NR memento
-        final Response resp = createVersionedNonRDFResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final String mementoUri = sharedMemento(true, info).getMemento();
 
         //verify that a subsequent GET returns 200.
         doGet(mementoUri);
@@ -87,9 +83,9 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDPR memento
-        final Response resp = createVersionedResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final SharedMemento shared = sharedMemento(false, info);
+        final String location = shared.getOriginal();
+        final String mementoUri = shared.getMemento();
 
         //verify that the timegate matches that of the original LDPR
         final Response getResp = doGet(mementoUri);
@@ -112,9 +108,9 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDP-NR memento
-        final Response resp = createVersionedNonRDFResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final SharedMemento shared = sharedMemento(true, info);
+        final String location = shared.getOriginal();
+        final String mementoUri = shared.getMemento();
 
         // verify that the timegate matches that of the original LDPR
         final Response getResp = doGet(mementoUri);
@@ -138,9 +134,7 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDP-NR memento
-        final Response resp = createVersionedResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final String mementoUri = sharedMemento(false, info).getMemento();
 
         //verify that the appropriate link header is present
         final Response getResp = doGet(mementoUri);
@@ -159,9 +153,7 @@ public class LdprmHttpGet extends AbstractVersioningTest {
                                         ps);
 
         //create an LDP-NR memento
-        final Response resp = createVersionedNonRDFResource(uri, info);
-        final String location = getLocation(resp);
-        final String mementoUri = createMemento(location);
+        final String mementoUri = sharedMemento(true, info).getMemento();
 
         //verify that the appropriate link header is present
         final Response getResp = doGet(mementoUri);
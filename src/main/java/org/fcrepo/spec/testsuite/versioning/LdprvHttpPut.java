@@ -48,12 +48,12 @@ public class LdprvHttpPut extends AbstractVersioningTest {
                                         SPEC_BASE_URL + "#resource-versioning",
                                         ps);
 
+        //if resources are created with an original resource header skip
+        skipIfVersionedByDefault();
         //create a resource
         final Response response = createBasicContainer(this.uri, info.getId());
         final String resourceUri = getLocation(response);
-        //if it has an original resource header skip
         final Response getResponse = doGet(resourceUri);
-        skipIfVersionedByDefault(getResponse);
         //otherwise PUT with the OriginalResource header.
         final String body = getResponse.getBody().asString();
         doPut(resourceUri, new Headers(new Header("Link", ORIGINAL_RESOURCE_LINK_HEADER)), body);